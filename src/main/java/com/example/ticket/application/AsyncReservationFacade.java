@@ -0,0 +1,106 @@
+package com.example.ticket.application;
+
+import com.example.ticket.domain.event.ReservationRequestEvent;
+import com.example.ticket.infrastructure.kafka.ReservationRequestProducer;
+import com.example.ticket.infrastructure.redis.pubsub.ReservationResultPublisher;
+import com.example.ticket.infrastructure.redis.service.ReservationRequestStore;
+import com.example.ticket.infrastructure.redis.service.AdmissionPassService;
+import com.example.ticket.infrastructure.redis.service.SeatKeys;
+import com.example.ticket.interfaces.dto.ReservationRequestResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 비동기 예약 (접수 후 대기열 처리)
+ *
+ * 요청 스레드는 검증 후 reservation-requests 토픽(seatId 키)에 적재하고 requestId만 즉시 반환합니다.
+ * 실제 선점은 Consumer가 파티션 순서대로 ReservationFacade로 처리하며,
+ * 결과는 요청 상태(폴링) + reservation-result Pub/Sub(SSE)으로 전달됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncReservationFacade {
+
+    private final ReservationFacade reservationFacade;
+    private final AdmissionPassService admissionPassService;
+    private final ReservationRequestProducer reservationRequestProducer;
+    private final ReservationRequestStore reservationRequestStore;
+    private final ReservationResultPublisher reservationResultPublisher;
+    private final ObjectMapper objectMapper;
+    private final SeatKeys seatKeys;
+
+    /**
+     * 예약 요청 접수 (PENDING 기록 후 Kafka 적재, 발행 실패 시 FAILED로 전환)
+     *
+     * @param admissionPass 입장 허가증 (null이면 Redis로 확인)
+     */
+    public ReservationRequestResponse accept(Long seatId, Long userId, String admissionPass) {
+        if (seatId == null || userId == null) {
+            throw new IllegalArgumentException("seatId와 userId는 필수입니다.");
+        }
+        if (!admissionPassService.isAllowed(seatKeys.performanceOf(seatId), userId, admissionPass)) {
+            throw new IllegalStateException("대기열 진입이 필요합니다. /api/v1/queue/enter를 먼저 호출하세요.");
+        }
+
+        ReservationRequestEvent event = ReservationRequestEvent.of(userId, seatId);
+        ReservationRequestResponse pending = ReservationRequestResponse.pending(event.getRequestId(), seatId);
+        reservationRequestStore.save(event.getRequestId(), toJson(pending));
+
+        reservationRequestProducer.publish(event).whenComplete((result, ex) -> {
+            if (ex != null) {
+                complete(ReservationRequestResponse.failed(event.getRequestId(), seatId,
+                        "요청 접수에 실패했습니다. 잠시 후 다시 시도해 주세요."));
+            }
+        });
+
+        return pending;
+    }
+
+    /**
+     * 예약 요청 처리 (Consumer에서 호출)
+     */
+    public void process(ReservationRequestEvent event) {
+        ReservationRequestResponse result;
+        try {
+            Long reservationId = reservationFacade.reserve(event.getSeatId(), event.getUserId());
+            result = ReservationRequestResponse.succeeded(event.getRequestId(), event.getSeatId(), reservationId);
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            result = ReservationRequestResponse.failed(event.getRequestId(), event.getSeatId(), e.getMessage());
+        }
+        complete(result);
+    }
+
+    /**
+     * 요청 상태 조회 (폴링)
+     */
+    public Optional<ReservationRequestResponse> find(String requestId) {
+        return reservationRequestStore.find(requestId).map(json -> {
+            try {
+                return objectMapper.readValue(json, ReservationRequestResponse.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("예약 요청 상태를 읽을 수 없습니다: " + requestId);
+            }
+        });
+    }
+
+    private void complete(ReservationRequestResponse result) {
+        String json = toJson(result);
+        reservationRequestStore.save(result.getRequestId(), json);
+        reservationResultPublisher.publish(json);
+        log.info("비동기 예약 처리 완료. requestId={}, status={}", result.getRequestId(), result.getStatus());
+    }
+
+    private String toJson(ReservationRequestResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("예약 요청 상태 직렬화 실패: " + response.getRequestId());
+        }
+    }
+}
@@ -10,8 +10,10 @@ import com.example.ticket.domain.seat.SeatRepository;
 import com.example.ticket.domain.seat.SeatStatus;
 import com.example.ticket.infrastructure.kafka.ReservationEventProducer;
 import com.example.ticket.infrastructure.redis.pubsub.SeatStatusPublisher;
+import com.example.ticket.infrastructure.redis.service.AdmissionPassService;
+import com.example.ticket.infrastructure.redis.service.HoldDeadlineQueue;
+import com.example.ticket.infrastructure.redis.service.SeatKeys;
 import com.example.ticket.infrastructure.redis.service.SeatCacheService;
-import com.example.ticket.infrastructure.redis.service.WaitingQueueService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -33,9 +35,11 @@ public class PaymentFacade {
     private final ReservationService reservationService;
     private final SeatRepository seatRepository;
     private final SeatCacheService seatCacheService;
-    private final WaitingQueueService waitingQueueService;
+    private final AdmissionPassService admissionPassService;
     private final ReservationEventProducer eventProducer;
     private final SeatStatusPublisher seatStatusPublisher;
+    private final HoldDeadlineQueue holdDeadlineQueue;
+    private final SeatKeys seatKeys;
 
     /**
      * PG에 결제 요청 후 Payment(PENDING) 저장, transactionKey 반환
@@ -82,12 +86,20 @@ public class PaymentFacade {
 
     /**
      * PG 콜백 처리: 결제 성공/실패에 따라 예약 확정 또는 취소
+     *
+     * 이미 처리된 결제의 콜백(PG 재전송)은 무시합니다.
+     * 콜백 전에 선점이 만료되어 HoldExpiryScheduler가 좌석을 해제했으면 예약을 확정하지 않고,
+     * 승인된 결제는 환불 대상으로 표시한 뒤 환불 필요 이벤트를 발행합니다.
      */
     @Transactional
     public void handleCallback(String transactionKey, String status) {
         // 1. Payment 조회
         Payment payment = paymentRepository.findByTransactionKey(transactionKey)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 transactionKey: " + transactionKey));
+        if (payment.isSettled()) {
+            log.info("이미 처리된 결제 콜백 무시. transactionKey={}, status={}", transactionKey, payment.getStatus());
+            return;
+        }
 
         Long reservationId = payment.getReservationId();
         Reservation reservation = reservationService.findById(reservationId);
@@ -99,13 +111,20 @@ public class PaymentFacade {
                 .map(seat -> seat.getSeatNumber())
                 .orElse("UNKNOWN");
 
+        if (reservation.getStatus() != ReservationStatus.HELD) {
+            // 2-0. 선점 만료(또는 취소) 후 도착한 콜백: 좌석은 이미 해제되어 다른 사용자가 선점했을 수 있으므로 건드리지 않음
+            handleExpiredHold(payment, reservation, seatNumber, status);
+            return;
+        }
+
         if ("SUCCESS".equalsIgnoreCase(status)) {
             // 2-A. 결제 성공
             payment.success();
             reservationService.confirm(reservationId);
+            holdDeadlineQueue.remove(reservationId);
             seatCacheService.updateSeatStatus(seatId, SeatStatus.CONFIRMED.name(), 0);
             eventProducer.publish(ReservationEvent.success(reservationId, userId, seatId, seatNumber));
-            waitingQueueService.removeActiveUser(userId);
+            admissionPassService.revoke(seatKeys.performanceOf(seatId), userId);
             seatStatusPublisher.publish(seatId, seatNumber, "CONFIRMED");
 
             log.info("결제 성공 처리 완료. reservationId={}, transactionKey={}", reservationId, transactionKey);
@@ -115,12 +134,28 @@ public class PaymentFacade {
             payment.fail();
             reservation.cancel();
             reservationService.releaseSeat(seatId); // DB 상태를 AVAILABLE로 복원
+            holdDeadlineQueue.remove(reservationId);
             seatCacheService.deleteSeatStatus(seatId);
             eventProducer.publish(ReservationEvent.failed(userId, seatId, seatNumber));
-            waitingQueueService.removeActiveUser(userId);
+            admissionPassService.revoke(seatKeys.performanceOf(seatId), userId);
             seatStatusPublisher.publish(seatId, seatNumber, "AVAILABLE");
 
             log.info("결제 실패 처리 완료. reservationId={}, transactionKey={}", reservationId, transactionKey);
         }
     }
+
+    // 만료된 선점의 결제 콜백: 승인된 결제는 환불 대상으로 표시 + 보상 이벤트, 실패한 결제는 기록만
+    private void handleExpiredHold(Payment payment, Reservation reservation, String seatNumber, String status) {
+        if ("SUCCESS".equalsIgnoreCase(status)) {
+            payment.refundRequired();
+            eventProducer.publish(ReservationEvent.refundRequired(
+                    reservation.getId(), reservation.getUserId(), reservation.getSeatId(), seatNumber));
+            log.warn("선점 만료 후 결제 승인, 환불 필요. reservationId={}, transactionKey={}, reservationStatus={}",
+                    reservation.getId(), payment.getTransactionKey(), reservation.getStatus());
+        } else {
+            payment.fail();
+            log.info("선점 만료 후 결제 실패 콜백. reservationId={}, transactionKey={}",
+                    reservation.getId(), payment.getTransactionKey());
+        }
+    }
 }
@@ -1,21 +1,29 @@
 package com.example.ticket.application;
 
+import com.example.ticket.application.claim.SeatClaimStrategies;
+import com.example.ticket.application.claim.SeatClaimStrategy;
 import com.example.ticket.domain.reservation.Reservation;
+import com.example.ticket.domain.reservation.SeatHold;
+import com.example.ticket.infrastructure.cache.SeatRowIndex;
+import com.example.ticket.infrastructure.cache.SeatStateIndex;
+import com.example.ticket.domain.performance.PerformanceService;
 import com.example.ticket.domain.reservation.ReservationService;
-import com.example.ticket.domain.seat.Seat;
-import com.example.ticket.domain.seat.SeatRepository;
-import com.example.ticket.domain.seat.SeatStatus;
 import com.example.ticket.infrastructure.redis.pubsub.SeatStatusPublisher;
+import com.example.ticket.domain.seat.SeatStatus;
+import com.example.ticket.infrastructure.redis.service.HoldDeadlineQueue;
 import com.example.ticket.infrastructure.redis.service.SeatCacheService;
-import com.example.ticket.infrastructure.redis.service.WaitingQueueService;
+import com.example.ticket.infrastructure.redis.service.AdmissionPassService;
+import com.example.ticket.infrastructure.redis.service.SeatKeys;
 import com.example.ticket.config.MetricsConfig;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -23,104 +31,244 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class ReservationFacade {
 
-    private final RedissonClient redissonClient;
-    private final ReservationService reservationService;
-    private final SeatRepository seatRepository;
-    private final WaitingQueueService waitingQueueService;
-    private final SeatCacheService seatCacheService;
+    private final SeatClaimStrategies seatClaimStrategies;
+    private final AdmissionPassService admissionPassService;
     private final MetricsConfig metricsConfig;
     private final SeatStatusPublisher seatStatusPublisher;
+    private final SeatStateIndex seatStateIndex;
+    private final HoldDeadlineQueue holdDeadlineQueue;
+    private final ReservationService reservationService;
+    private final SeatCacheService seatCacheService;
+    private final SeatRowIndex seatRowIndex;
+    private final PerformanceService performanceService;
+    private final SeatKeys seatKeys;
 
-    private static final String LOCK_KEY = "lock:seat:";
+    private static final int BEST_AVAILABLE_ATTEMPTS = 3;
+
+    @Value("${reservation.fast-path.enabled:true}")
+    private boolean fastPathEnabled;
+
+    @Value("${reservation.batch.max-seats:8}")
+    private int maxBatchSeats;
 
     /**
      * 좌석 선점 후 reservationId 반환 (결제는 PaymentFacade에서 별도 처리)
      *
-     * DB가 상태의 원천입니다. Redis는 분산 락(Redisson)과 선택적 캐시 용도로만 사용합니다.
+     * DB가 상태의 원천입니다. 좌석 선점 방식은 reservation.claim-strategy로 선택합니다 (SeatClaimStrategy).
+     * 입장 확인을 통과한 요청 중 로컬 비트맵에 이미 선점/판매된 것으로 알려진 좌석은 락/DB를 거치지 않고 바로 거절합니다.
      */
     public Long reserve(Long seatId, Long userId) {
-        Timer.Sample reservationSample = Timer.start();
-        metricsConfig.incrementActiveReservations();
+        return reserve(seatId, userId, null);
+    }
 
-        // [STEP 1] Active User 확인 (대기열을 통과한 사용자만 예약 가능)
-        if (!waitingQueueService.isAllowed(userId)) {
-            metricsConfig.decrementActiveReservations();
+    /**
+     * 좌석 선점 (입장 허가증이 있으면 입장 확인을 Redis 없이 로컬 검증)
+     *
+     * 입장 확인은 좌석이 속한 공연의 대기열 기준입니다.
+     *
+     * @param admissionPass 대기열 READY 응답의 입장 허가증 (null이면 Redis로 확인)
+     */
+    public Long reserve(Long seatId, Long userId, String admissionPass) {
+        // [STEP 0] Active User 확인 (좌석 공연의 대기열을 통과한 사용자만 예약 가능)
+        // 허가증 검증은 로컬 HMAC이라 저렴하므로 먼저 확인 (대기열을 거치지 않은 호출로 좌석 상태를 조회할 수 없게)
+        if (!admissionPassService.isAllowed(performanceOfSeat(seatId), userId, admissionPass)) {
             throw new IllegalStateException("대기열 진입이 필요합니다. /api/v1/queue/enter를 먼저 호출하세요.");
         }
 
-        // [STEP 2] 좌석 존재 여부 사전 확인
-        seatRepository.findById(seatId)
-                .orElseThrow(() -> {
-                    metricsConfig.decrementActiveReservations();
-                    return new IllegalArgumentException("존재하지 않는 좌석입니다.");
-                });
+        // [STEP 1] 로컬 좌석 상태 확인 (부정 판정만, 통과한 요청은 기존 경로에서 DB가 최종 판정)
+        if (fastPathEnabled) {
+            String takenStatus = seatStateIndex.knownTakenStatus(seatId);
+            if (takenStatus != null) {
+                metricsConfig.getSeatFastPathRejectedCounter().increment();
+                metricsConfig.getReservationFailedCounter().increment();
+                SeatClaimStrategy.rejectIfTaken(takenStatus);
+            }
+        }
 
-        RLock lock = redissonClient.getLock(LOCK_KEY + seatId);
+        Timer.Sample reservationSample = Timer.start();
+        metricsConfig.incrementActiveReservations();
 
         try {
-            // [STEP 3] 분산 락 획득 (1초 대기, 2초 점유)
-            Timer.Sample lockSample = Timer.start();
-            if (!lock.tryLock(1, 2, TimeUnit.SECONDS)) {
-                lockSample.stop(metricsConfig.getLockAcquisitionTimer());
-                metricsConfig.getLockTimeoutCounter().increment();
-                metricsConfig.getReservationFailedCounter().increment();
-                metricsConfig.decrementActiveReservations();
-                throw new IllegalStateException("현재 접속자가 많아 처리에 실패했습니다. 잠시 후 다시 시도해 주세요.");
-            }
-            lockSample.stop(metricsConfig.getLockAcquisitionTimer());
+            // [STEP 2~6] 좌석 선점 + DB 기록 (AVAILABLE → SELECTED, Reservation HELD)
+            SeatHold hold = seatClaimStrategies.current().claim(seatId, userId);
+            Reservation reservation = hold.getReservation();
 
-            try {
-                // [STEP 4] 락 획득 후 DB에서 최신 좌석 상태 확인 (DB가 원천)
-                Seat seat = seatRepository.findById(seatId)
-                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 좌석입니다."));
+            // [STEP 7] 선점 만료 시각 등록 (결제 없이 만료되면 HoldExpiryScheduler가 해제)
+            holdDeadlineQueue.register(reservation.getId(),
+                    System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(ReservationService.HOLD_MINUTES));
 
-                if (seat.getStatus() == SeatStatus.SELECTED) {
-                    throw new IllegalStateException("현재 다른 사용자가 결제 진행 중입니다.");
-                }
-                if (seat.getStatus() == SeatStatus.CONFIRMED) {
-                    throw new IllegalStateException("이미 판매가 완료된 좌석입니다.");
-                }
+            // [STEP 8] 좌석 선점 상태 브로드캐스트
+            seatStatusPublisher.publish(seatId, hold.getSeatNumber(), "SELECTED");
 
-                // [STEP 5] DB 상태 변경 (AVAILABLE → SELECTED) + Reservation HELD 저장
-                Reservation reservation = reservationService.hold(seatId, userId);
+            log.info("좌석 {} 선점 완료. reservationId={}, userId={}", seatId, reservation.getId(), userId);
 
-                // [STEP 6] Redis 캐시 업데이트 (선택적 fast-check 용도; 실패해도 DB가 정합성 보장)
-                try {
-                    seatCacheService.updateSeatStatus(seatId, SeatStatus.SELECTED.name(), 5);
-                } catch (Exception cacheEx) {
-                    log.warn("Redis 캐시 업데이트 실패 (무시됨). seatId={}: {}", seatId, cacheEx.getMessage());
-                }
+            metricsConfig.decrementActiveReservations();
+            reservationSample.stop(metricsConfig.getReservationTimer());
 
-                // [STEP 7] 좌석 선점 상태 브로드캐스트
-                seatStatusPublisher.publish(seatId, seat.getSeatNumber(), "SELECTED");
+            return reservation.getId();
 
-                log.info("좌석 {} 선점 완료. reservationId={}, userId={}", seatId, reservation.getId(), userId);
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            metricsConfig.getReservationFailedCounter().increment();
+            metricsConfig.decrementActiveReservations();
+            throw e;
+        } catch (Exception e) {
+            log.error("예약 과정 중 에러 발생: ", e);
+            metricsConfig.getReservationFailedCounter().increment();
+            metricsConfig.decrementActiveReservations();
+            throw new IllegalStateException(e.getMessage());
+        }
+    }
 
-                metricsConfig.decrementActiveReservations();
-                reservationSample.stop(metricsConfig.getReservationTimer());
+    // 좌석의 공연 ID (존재하지 않는 좌석이면 입장 확인 전에 400으로 거절)
+    private Long performanceOfSeat(Long seatId) {
+        Long performanceId = seatKeys.performanceOf(seatId);
+        if (performanceId == SeatKeys.UNASSIGNED) {
+            throw new IllegalArgumentException("존재하지 않는 좌석입니다.");
+        }
+        return performanceId;
+    }
 
-                return reservation.getId();
+    /**
+     * 다좌석 일괄 선점 (전부 성공 또는 전부 실패), seatId 오름차순의 reservationId 목록 반환
+     *
+     * 선점 전략과 무관하게 DB 조건부 UPDATE 한 번으로 처리합니다 (ReservationService.holdAll).
+     * 다른 전략의 선점도 모두 DB 조건부 변경/version을 거치므로 단건 선점과 섞여도 안전합니다.
+     */
+    public List<Long> reserveAll(List<Long> seatIds, Long userId, String admissionPass) {
+        if (seatIds == null || seatIds.isEmpty()) {
+            throw new IllegalArgumentException("선점할 좌석을 하나 이상 선택하세요.");
+        }
+        List<Long> orderedSeatIds = seatIds.stream().distinct().sorted().toList();
+        if (orderedSeatIds.size() != seatIds.size()) {
+            throw new IllegalArgumentException("같은 좌석이 중복으로 포함되어 있습니다.");
+        }
+        if (orderedSeatIds.size() > maxBatchSeats) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxBatchSeats + "석까지 선점할 수 있습니다.");
+        }
+        Long performanceId = performanceOfSeat(orderedSeatIds.get(0));
+        if (orderedSeatIds.stream().anyMatch(seatId -> !performanceId.equals(performanceOfSeat(seatId)))) {
+            throw new IllegalArgumentException("한 번에 한 공연의 좌석만 선점할 수 있습니다.");
+        }
 
-            } finally {
-                if (lock.isHeldByCurrentThread()) {
-                    lock.unlock();
+        // [STEP 0] Active User 확인 (좌석 상태 확인보다 먼저)
+        if (!admissionPassService.isAllowed(performanceId, userId, admissionPass)) {
+            throw new IllegalStateException("대기열 진입이 필요합니다. /api/v1/queue/enter를 먼저 호출하세요.");
+        }
+
+        // [STEP 1] 로컬 좌석 상태 확인 (하나라도 선점/판매된 좌석이 있으면 묶음 전체 거절)
+        if (fastPathEnabled) {
+            for (Long seatId : orderedSeatIds) {
+                String takenStatus = seatStateIndex.knownTakenStatus(seatId);
+                if (takenStatus != null) {
+                    metricsConfig.getSeatFastPathRejectedCounter().increment();
+                    metricsConfig.getReservationFailedCounter().increment();
+                    SeatClaimStrategy.rejectIfTaken(takenStatus);
                 }
             }
+        }
+
+        Timer.Sample reservationSample = Timer.start();
+        metricsConfig.incrementActiveReservations();
+
+        try {
+            // [STEP 2~4] 일괄 선점 + Redis 기록 + 브로드캐스트
+            List<Long> reservationIds = holdAndAnnounce(orderedSeatIds, userId).stream()
+                    .map(hold -> hold.getReservation().getId())
+                    .toList();
+
+            metricsConfig.decrementActiveReservations();
+            reservationSample.stop(metricsConfig.getReservationTimer());
+
+            return reservationIds;
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        } catch (IllegalStateException | IllegalArgumentException e) {
             metricsConfig.getReservationFailedCounter().increment();
             metricsConfig.decrementActiveReservations();
-            throw new IllegalStateException("시스템 오류가 발생했습니다.");
-        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("일괄 예약 과정 중 에러 발생: ", e);
+            metricsConfig.getReservationFailedCounter().increment();
+            metricsConfig.decrementActiveReservations();
+            throw new IllegalStateException(e.getMessage());
+        }
+    }
+
+    /**
+     * 빈 연석 count개 자동 배정 후 선점 (좌석 ID를 고르지 않고 요청 한 번으로 끝남)
+     *
+     * SeatRowIndex에서 앞 열/가운데 우선으로 후보 구간을 고른 뒤 holdAll로 전부 또는 전혀 선점하지 않습니다.
+     * 인덱스가 다른 노드의 변경을 아직 반영하지 못해 실패하면 다른 구간으로 재시도합니다.
+     *
+     * @param performanceId null이면 가장 가까운 예정 공연
+     * @param section null이면 모든 구역 대상
+     * @param admissionPass 입장 허가증 (null이면 Redis로 확인)
+     * @return 열 내 위치 순의 SeatHold 목록
+     */
+    public List<SeatHold> reserveBest(Long performanceId, int count, String section, Long userId, String admissionPass) {
+        if (count < 1 || count > maxBatchSeats) {
+            throw new IllegalArgumentException("좌석 수는 1~" + maxBatchSeats + "석 사이로 선택하세요.");
+        }
+        Long resolvedPerformanceId = performanceService.resolve(performanceId);
+
+        Timer.Sample reservationSample = Timer.start();
+        metricsConfig.incrementActiveReservations();
+
+        if (!admissionPassService.isAllowed(resolvedPerformanceId, userId, admissionPass)) {
+            metricsConfig.decrementActiveReservations();
+            throw new IllegalStateException("대기열 진입이 필요합니다. /api/v1/queue/enter를 먼저 호출하세요.");
+        }
+
+        try {
+            for (int attempt = 1; attempt <= BEST_AVAILABLE_ATTEMPTS; attempt++) {
+                List<Long> seatIds = seatRowIndex.take(resolvedPerformanceId, section, count);
+                if (seatIds.isEmpty()) {
+                    break;
+                }
+                List<SeatHold> holds = null;
+                try {
+                    holds = holdAndAnnounce(seatIds, userId);
+
+                    metricsConfig.decrementActiveReservations();
+                    reservationSample.stop(metricsConfig.getReservationTimer());
+                    return holds;
+                } catch (IllegalStateException e) {
+                    // 후보 구간 일부가 이미 선점됨 → 다음 구간 시도
+                    log.debug("연석 후보 선점 실패 ({}회차). seatIds={}", attempt, seatIds);
+                } finally {
+                    // 선점하지 못했으면 (원인과 무관하게) 인덱스에서 뺀 좌석을 DB 기준으로 되돌림
+                    if (holds == null) {
+                        seatRowIndex.restore(seatIds);
+                    }
+                }
+            }
+            throw new IllegalStateException("연속으로 " + count + "석이 남아 있는 열이 없습니다.");
+
+        } catch (IllegalStateException | IllegalArgumentException e) {
             metricsConfig.getReservationFailedCounter().increment();
             metricsConfig.decrementActiveReservations();
             throw e;
         } catch (Exception e) {
-            log.error("예약 과정 중 에러 발생: ", e);
+            log.error("연석 배정 과정 중 에러 발생: ", e);
             metricsConfig.getReservationFailedCounter().increment();
             metricsConfig.decrementActiveReservations();
             throw new IllegalStateException(e.getMessage());
         }
     }
+
+    // 일괄 선점 + Redis 상태/만료 시각 기록 + 선점 상태 브로드캐스트 (메시지 하나)
+    private List<SeatHold> holdAndAnnounce(List<Long> seatIds, Long userId) {
+        List<SeatHold> holds = reservationService.holdAll(seatIds, userId);
+        List<Long> reservationIds = holds.stream().map(hold -> hold.getReservation().getId()).toList();
+
+        seatCacheService.updateSeatStatuses(seatIds, SeatStatus.SELECTED.name(), ReservationService.HOLD_MINUTES);
+        holdDeadlineQueue.registerAll(reservationIds,
+                System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(ReservationService.HOLD_MINUTES));
+
+        Map<Long, String> seatNumberBySeatId = new LinkedHashMap<>();
+        holds.forEach(hold -> seatNumberBySeatId.put(hold.getReservation().getSeatId(), hold.getSeatNumber()));
+        seatStatusPublisher.publishAll(seatNumberBySeatId, "SELECTED");
+
+        log.info("좌석 {}석 일괄 선점 완료. seatIds={}, userId={}", seatIds.size(), seatIds, userId);
+        return holds;
+    }
 }
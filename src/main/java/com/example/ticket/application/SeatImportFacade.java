@@ -0,0 +1,94 @@
+package com.example.ticket.application;
+
+import com.example.ticket.domain.performance.PerformanceService;
+import com.example.ticket.domain.seat.SeatJdbcRepository;
+import com.example.ticket.domain.seat.SeatRepository;
+import com.example.ticket.domain.seat.SeatStatus;
+import com.example.ticket.infrastructure.cache.SeatMap;
+import com.example.ticket.infrastructure.cache.SeatRowIndex;
+import com.example.ticket.infrastructure.redis.service.SeatCacheService;
+import com.example.ticket.interfaces.dto.SeatImportResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 일괄 등록 (대형 공연장 좌석 배치 가져오기)
+ *
+ * 입력을 스트리밍으로 읽어 JDBC 배치 INSERT로 기록한 뒤(SeatJdbcRepository),
+ * 판매 시작 직후의 첫 요청들이 DB로 몰리지 않도록 좌석 맵/열 인덱스와 Redis 좌석 상태를 미리 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatImportFacade {
+
+    private final PerformanceService performanceService;
+    private final SeatJdbcRepository seatJdbcRepository;
+    private final SeatRepository seatRepository;
+    private final SeatCacheService seatCacheService;
+    private final SeatMap seatMap;
+    private final SeatRowIndex seatRowIndex;
+    private final ObjectMapper objectMapper;
+
+    @Value("${reservation.import.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * CSV 좌석 배치 등록
+     */
+    public SeatImportResponse importCsv(Long performanceId, InputStream in) {
+        return importSeats(performanceId, SeatLayoutReader.csv(in));
+    }
+
+    /**
+     * JSON 배열 좌석 배치 등록
+     */
+    public SeatImportResponse importJson(Long performanceId, InputStream in) {
+        return importSeats(performanceId, SeatLayoutReader.json(in, objectMapper));
+    }
+
+    private SeatImportResponse importSeats(Long performanceId, SeatLayoutReader reader) {
+        performanceService.resolve(performanceId);
+        Long lastSeatId = seatRepository.findMaxIdByPerformanceId(performanceId);
+
+        // [STEP 1] 배치 INSERT (전부 또는 전혀 등록되지 않음)
+        long begin = System.nanoTime();
+        int rows = seatJdbcRepository.insertAll(performanceId, reader, batchSize);
+        if (rows == 0) {
+            throw new IllegalArgumentException("등록할 좌석이 없습니다.");
+        }
+        long inserted = System.nanoTime();
+
+        // [STEP 2] 메모리 인덱스 적재 (SeatMap 적재 시 seatId → 공연 매핑도 함께 기억)
+        seatMap.resync(performanceId);
+        seatRowIndex.reload(performanceId);
+
+        // [STEP 3] 새 좌석의 Redis 상태 예열 (기존 좌석의 선점 상태는 건드리지 않음)
+        List<Long> newSeatIds = seatRepository.findIdsByPerformanceIdAfter(performanceId, lastSeatId);
+        seatCacheService.warmSeatStatuses(newSeatIds, SeatStatus.AVAILABLE.name(), batchSize);
+        long warmed = System.nanoTime();
+
+        long insertMillis = TimeUnit.NANOSECONDS.toMillis(inserted - begin);
+        long prewarmMillis = TimeUnit.NANOSECONDS.toMillis(warmed - inserted);
+        long rowsPerSecond = rows * TimeUnit.SECONDS.toNanos(1) / Math.max(1, warmed - begin);
+
+        log.info("좌석 일괄 등록 완료: 공연 {}, {}석, INSERT {}ms, 예열 {}ms, {} rows/s",
+                performanceId, rows, insertMillis, prewarmMillis, rowsPerSecond);
+
+        return SeatImportResponse.builder()
+                .performanceId(performanceId)
+                .rows(rows)
+                .insertMillis(insertMillis)
+                .prewarmMillis(prewarmMillis)
+                .rowsPerSecond(rowsPerSecond)
+                .message("좌석 " + rows + "석 등록 완료")
+                .build();
+    }
+}
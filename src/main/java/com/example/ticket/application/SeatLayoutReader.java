@@ -0,0 +1,144 @@
+package com.example.ticket.application;
+
+import com.example.ticket.domain.seat.SeatLayoutRow;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 좌석 배치 입력 스트리밍 파서 (CSV / JSON 배열)
+ *
+ * 한 줄(한 원소)씩 읽어 넘기므로 입력 전체를 메모리에 올리지 않습니다.
+ * 형식이 잘못된 줄은 위치와 함께 IllegalArgumentException으로 알립니다.
+ *
+ * CSV: section,seatRow,seatCol[,seatNumber] (첫 줄이 section으로 시작하면 헤더로 보고 건너뜀, 빈 줄/#주석 무시)
+ * JSON: [{"section":"A","seatRow":1,"seatCol":1,"seatNumber":"A구역 1열 1번"}, ...] (seatNumber 생략 가능)
+ */
+abstract class SeatLayoutReader implements Iterator<SeatLayoutRow> {
+
+    private SeatLayoutRow next;
+    private boolean done;
+
+    static SeatLayoutReader csv(InputStream in) {
+        return new Csv(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+    }
+
+    static SeatLayoutReader json(InputStream in, ObjectMapper objectMapper) {
+        try {
+            return new Json(objectMapper.createParser(in));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("좌석 JSON을 읽을 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    // 다음 좌석 (입력이 끝났으면 null)
+    protected abstract SeatLayoutRow read() throws IOException;
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            try {
+                next = read();
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("좌석 입력 형식 오류: " + e.getOriginalMessage());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            done = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public SeatLayoutRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        SeatLayoutRow row = next;
+        next = null;
+        return row;
+    }
+
+    private static class Csv extends SeatLayoutReader {
+
+        private final BufferedReader reader;
+        private int lineNumber;
+
+        Csv(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        protected SeatLayoutRow read() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")
+                        || (lineNumber == 1 && line.regionMatches(true, 0, "section", 0, 7))) {
+                    continue;
+                }
+                return parse(line);
+            }
+            return null;
+        }
+
+        private SeatLayoutRow parse(String line) {
+            String[] fields = line.split(",", 4);
+            if (fields.length < 3) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: section,seatRow,seatCol[,seatNumber] 형식이 아닙니다.");
+            }
+            try {
+                return new SeatLayoutRow(fields[0].strip(),
+                        Integer.parseInt(fields[1].strip()),
+                        Integer.parseInt(fields[2].strip()),
+                        fields.length == 4 ? fields[3].strip() : null);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: 열/번호는 숫자여야 합니다.");
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: " + e.getMessage());
+            }
+        }
+    }
+
+    private static class Json extends SeatLayoutReader {
+
+        private final JsonParser parser;
+        private int index;
+
+        Json(JsonParser parser) throws IOException {
+            this.parser = parser;
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("좌석 JSON은 배열이어야 합니다.");
+            }
+        }
+
+        @Override
+        protected SeatLayoutRow read() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY || token == null) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException(index + "번째 원소: 좌석 객체가 아닙니다.");
+            }
+            try {
+                SeatLayoutRow row = parser.readValueAs(SeatLayoutRow.class);
+                index++;
+                return row;
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException(index + "번째 원소: " + e.getOriginalMessage());
+            }
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.ticket.application;
 
+import com.example.ticket.domain.performance.PerformanceService;
 import com.example.ticket.domain.seat.Seat;
 import com.example.ticket.domain.seat.SeatRepository;
+import com.example.ticket.infrastructure.cache.SeatMap;
+import com.example.ticket.interfaces.dto.SeatChangesResponse;
+import com.example.ticket.interfaces.dto.SeatLayoutResponse;
 import com.example.ticket.interfaces.dto.SeatResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,12 +13,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * 좌석 조회 서비스
+ * 좌석 조회 서비스 (공연 단위)
  *
- * DB를 상태의 원천으로 사용합니다.
- * Redis는 분산 락 용도로만 사용하며, 좌석 상태는 Seat.status 컬럼에서 읽습니다.
+ * 목록 조회는 DB 대신 메모리 좌석 맵(SeatMap) 스냅샷에서 응답합니다.
+ * 스냅샷 version이 바뀔 때만 응답 목록을 다시 만들고, 그 사이의 조회는 같은 목록을 재사용합니다.
+ * performanceId가 없으면 가장 가까운 예정 공연을 대상으로 합니다.
  */
 @Slf4j
 @Service
@@ -23,18 +30,98 @@ import java.util.List;
 public class SeatQueryService {
 
     private final SeatRepository seatRepository;
+    private final SeatMap seatMap;
+    private final PerformanceService performanceService;
+
+    // performanceId → 마지막으로 만든 응답
+    private final Map<Long, SeatMapView> views = new ConcurrentHashMap<>();
+    private final Map<Long, SeatLayoutView> layoutViews = new ConcurrentHashMap<>();
+
+    /**
+     * 좌석 맵 응답 (ETag + 전체/예약 가능 좌석 목록)
+     */
+    public record SeatMapView(String etag, long epoch, long version,
+                              List<SeatResponse> seats, List<SeatResponse> availableSeats,
+                              byte[] bitmap, long layoutVersion) {
+    }
+
+    /**
+     * 좌석 배치 응답 (ETag + 배치)
+     */
+    public record SeatLayoutView(String etag, SeatLayoutResponse layout) {
+    }
 
     /**
-     * 전체 좌석 목록 조회 — DB의 status 컬럼이 기준
+     * 공연의 현재 좌석 맵 (스냅샷 version이 같으면 이전 응답 재사용)
      */
-    public List<SeatResponse> getAllSeats() {
-        return seatRepository.findAll().stream()
-                .map(seat -> SeatResponse.of(seat, seat.getStatus().name()))
+    public SeatMapView getSeatMap(Long performanceId) {
+        Long resolvedId = performanceService.resolve(performanceId);
+        SeatMap.Snapshot snapshot = seatMap.snapshot(resolvedId);
+        SeatMapView current = views.get(resolvedId);
+        if (current != null && current.etag().equals(snapshot.etag())) {
+            return current;
+        }
+
+        List<SeatResponse> seats = snapshot.seats().stream()
+                .map(SeatQueryService::toResponse)
+                .toList();
+        List<SeatResponse> availableSeats = seats.stream()
+                .filter(s -> "AVAILABLE".equals(s.getStatus()))
                 .toList();
+
+        SeatMapView next = new SeatMapView(snapshot.etag(), snapshot.epoch(), snapshot.version(), seats, availableSeats,
+                snapshot.bitmap(), snapshot.layoutVersion());
+        views.put(resolvedId, next);
+        return next;
     }
 
     /**
-     * 단일 좌석 조회
+     * 공연의 좌석 배치 (배치 version이 같으면 이전 응답 재사용)
+     */
+    public SeatLayoutView getLayout(Long performanceId) {
+        Long resolvedId = performanceService.resolve(performanceId);
+        SeatMap.Layout layout = seatMap.layout(resolvedId);
+        SeatLayoutView current = layoutViews.get(resolvedId);
+        if (current != null && current.etag().equals(layout.etag())) {
+            return current;
+        }
+
+        SeatLayoutResponse response = SeatLayoutResponse.builder()
+                .performanceId(resolvedId)
+                .epoch(layout.epoch())
+                .layoutVersion(layout.version())
+                .seatIds(layout.seats().stream().map(SeatMap.LayoutEntry::seatId).toList())
+                .seatNumbers(layout.seats().stream().map(SeatMap.LayoutEntry::seatNumber).toList())
+                .build();
+        SeatLayoutView next = new SeatLayoutView(layout.etag(), response);
+        layoutViews.put(resolvedId, next);
+        return next;
+    }
+
+    /**
+     * since 이후 변경된 좌석만 조회 (변경 로그 범위를 벗어났으면 resync 안내)
+     *
+     * @param epoch 클라이언트가 마지막으로 받은 epoch (다른 노드의 version이면 resync)
+     */
+    public SeatChangesResponse getChanges(Long performanceId, Long epoch, long since) {
+        SeatMap.Changes changes = seatMap.changesSince(performanceService.resolve(performanceId), epoch, since);
+        return SeatChangesResponse.builder()
+                .epoch(changes.epoch())
+                .version(changes.version())
+                .resync(changes.resync())
+                .changes(changes.changes().stream().map(SeatQueryService::toResponse).toList())
+                .build();
+    }
+
+    /**
+     * 전체 좌석 목록 조회
+     */
+    public List<SeatResponse> getAllSeats(Long performanceId) {
+        return getSeatMap(performanceId).seats();
+    }
+
+    /**
+     * 단일 좌석 조회 — DB의 status 컬럼이 기준
      *
      * @param seatId 좌석 ID
      */
@@ -47,9 +134,15 @@ public class SeatQueryService {
     /**
      * 예약 가능한 좌석만 조회
      */
-    public List<SeatResponse> getAvailableSeats() {
-        return getAllSeats().stream()
-                .filter(s -> "AVAILABLE".equals(s.getStatus()))
-                .toList();
+    public List<SeatResponse> getAvailableSeats(Long performanceId) {
+        return getSeatMap(performanceId).availableSeats();
+    }
+
+    private static SeatResponse toResponse(SeatMap.SeatEntry entry) {
+        return SeatResponse.builder()
+                .seatId(entry.seatId())
+                .seatNumber(entry.seatNumber())
+                .status(entry.status())
+                .build();
     }
 }
@@ -0,0 +1,41 @@
+package com.example.ticket.application.claim;
+
+import com.example.ticket.domain.reservation.ReservationService;
+import com.example.ticket.domain.reservation.SeatHold;
+import com.example.ticket.domain.seat.SeatStatus;
+import com.example.ticket.infrastructure.redis.service.SeatCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조건부 UPDATE 선점 (claim-strategy=conditional-update)
+ *
+ * UPDATE seat SET status='SELECTED' WHERE id=? AND status='AVAILABLE' 의 영향 행 수로 승자를 가립니다.
+ * 분산 락 없이 DB 행 락만 짧게 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConditionalUpdateSeatClaimStrategy implements SeatClaimStrategy {
+
+    private final ReservationService reservationService;
+    private final SeatCacheService seatCacheService;
+
+    @Override
+    public String name() {
+        return "conditional-update";
+    }
+
+    @Override
+    public SeatHold claim(Long seatId, Long userId) {
+        SeatHold hold = reservationService.holdIfAvailable(seatId, userId);
+
+        try {
+            seatCacheService.updateSeatStatus(seatId, SeatStatus.SELECTED.name(), ReservationService.HOLD_MINUTES);
+        } catch (Exception cacheEx) {
+            log.warn("Redis 캐시 업데이트 실패 (무시됨). seatId={}: {}", seatId, cacheEx.getMessage());
+        }
+        return hold;
+    }
+}
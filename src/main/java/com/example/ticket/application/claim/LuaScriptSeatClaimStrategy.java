@@ -0,0 +1,51 @@
+package com.example.ticket.application.claim;
+
+import com.example.ticket.config.MetricsConfig;
+import com.example.ticket.domain.reservation.ReservationService;
+import com.example.ticket.domain.reservation.SeatHold;
+import com.example.ticket.infrastructure.redis.service.SeatCacheService;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Lua 스크립트 선점 (claim-strategy=lua)
+ *
+ * 상태 확인과 SELECTED 기록이 한 번의 왕복으로 끝나므로 락 대기 없이 패자는 즉시 거절됩니다.
+ * 승자만 DB에 기록하며, DB 기록이 실패하면 Redis 선점을 되돌립니다 (DB가 원천).
+ */
+@Component
+@RequiredArgsConstructor
+public class LuaScriptSeatClaimStrategy implements SeatClaimStrategy {
+
+    private final ReservationService reservationService;
+    private final SeatCacheService seatCacheService;
+    private final MetricsConfig metricsConfig;
+
+    @Override
+    public String name() {
+        return "lua";
+    }
+
+    @Override
+    public SeatHold claim(Long seatId, Long userId) {
+        // [STEP 1] 원자적 선점 (AVAILABLE → SELECTED + 점유자 + TTL)
+        Timer.Sample claimSample = Timer.start();
+        String claimed = seatCacheService.tryClaimSeat(seatId, userId, ReservationService.HOLD_MINUTES);
+        claimSample.stop(metricsConfig.getSeatClaimTimer());
+
+        if (!SeatCacheService.CLAIMED.equals(claimed)) {
+            metricsConfig.getSeatClaimConflictCounter().increment();
+            SeatClaimStrategy.rejectIfTaken(claimed);
+            throw new IllegalStateException("선점할 수 없는 좌석입니다. 현재 상태: " + claimed);
+        }
+
+        // [STEP 2] 락 없이 DB 기록 (Seat.select()와 @Version이 DB 상태를 다시 검증)
+        try {
+            return reservationService.hold(seatId, userId);
+        } catch (RuntimeException e) {
+            seatCacheService.releaseClaim(seatId, userId);
+            throw e;
+        }
+    }
+}
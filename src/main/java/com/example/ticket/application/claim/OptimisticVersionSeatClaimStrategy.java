@@ -0,0 +1,46 @@
+package com.example.ticket.application.claim;
+
+import com.example.ticket.domain.reservation.ReservationService;
+import com.example.ticket.domain.reservation.SeatHold;
+import com.example.ticket.domain.seat.SeatStatus;
+import com.example.ticket.infrastructure.redis.service.SeatCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA @Version 낙관적 선점 (claim-strategy=optimistic)
+ *
+ * 락 없이 읽고 Seat.select() 후 커밋 시점의 version 비교로 동시 선점을 걸러냅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticVersionSeatClaimStrategy implements SeatClaimStrategy {
+
+    private final ReservationService reservationService;
+    private final SeatCacheService seatCacheService;
+
+    @Override
+    public String name() {
+        return "optimistic";
+    }
+
+    @Override
+    public SeatHold claim(Long seatId, Long userId) {
+        SeatHold hold;
+        try {
+            hold = reservationService.hold(seatId, userId);
+        } catch (OptimisticLockingFailureException e) {
+            throw new IllegalStateException("현재 다른 사용자가 결제 진행 중입니다.");
+        }
+
+        try {
+            seatCacheService.updateSeatStatus(seatId, SeatStatus.SELECTED.name(), ReservationService.HOLD_MINUTES);
+        } catch (Exception cacheEx) {
+            log.warn("Redis 캐시 업데이트 실패 (무시됨). seatId={}: {}", seatId, cacheEx.getMessage());
+        }
+        return hold;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.ticket.application.claim;
+
+import com.example.ticket.domain.reservation.ReservationService;
+import com.example.ticket.domain.reservation.SeatHold;
+import com.example.ticket.domain.seat.SeatStatus;
+import com.example.ticket.infrastructure.redis.service.SeatCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 파티션 단일 작성자 선점 (claim-strategy=partitioned)
+ *
+ * Redisson 락 왕복 없이 SeatPartitionEngine의 파티션 스레드가 선점을 순서대로 적용합니다.
+ * 단일 노드 또는 seatId 기준 sticky 라우팅 배포에서만 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartitionedSeatClaimStrategy implements SeatClaimStrategy {
+
+    private final SeatPartitionEngine seatPartitionEngine;
+    private final SeatCacheService seatCacheService;
+
+    @Override
+    public String name() {
+        return "partitioned";
+    }
+
+    @Override
+    public SeatHold claim(Long seatId, Long userId) {
+        SeatHold hold = seatPartitionEngine.claim(seatId, userId);
+
+        try {
+            seatCacheService.updateSeatStatus(seatId, SeatStatus.SELECTED.name(), ReservationService.HOLD_MINUTES);
+        } catch (Exception cacheEx) {
+            log.warn("Redis 캐시 업데이트 실패 (무시됨). seatId={}: {}", seatId, cacheEx.getMessage());
+        }
+        return hold;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.ticket.application.claim;
+
+import com.example.ticket.config.MetricsConfig;
+import com.example.ticket.domain.reservation.ReservationService;
+import com.example.ticket.domain.reservation.SeatHold;
+import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.domain.seat.SeatRepository;
+import com.example.ticket.domain.seat.SeatStatus;
+import com.example.ticket.infrastructure.redis.service.SeatCacheService;
+import com.example.ticket.infrastructure.redis.service.SeatKeys;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redisson 분산 락 선점 (claim-strategy=lock)
+ *
+ * 좌석별 락(1초 대기, 2초 점유)을 잡은 뒤 DB에서 최신 상태를 다시 읽고 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedissonLockSeatClaimStrategy implements SeatClaimStrategy {
+
+    private final RedissonClient redissonClient;
+    private final ReservationService reservationService;
+    private final SeatRepository seatRepository;
+    private final SeatCacheService seatCacheService;
+    private final MetricsConfig metricsConfig;
+    private final SeatKeys seatKeys;
+
+    @Override
+    public String name() {
+        return "lock";
+    }
+
+    @Override
+    public SeatHold claim(Long seatId, Long userId) {
+        // [STEP 1] 좌석 존재 여부 사전 확인
+        seatRepository.findById(seatId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 좌석입니다."));
+
+        RLock lock = redissonClient.getLock(seatKeys.lock(seatId));
+
+        try {
+            // [STEP 2] 분산 락 획득 (1초 대기, 2초 점유)
+            Timer.Sample lockSample = Timer.start();
+            if (!lock.tryLock(1, 2, TimeUnit.SECONDS)) {
+                lockSample.stop(metricsConfig.getLockAcquisitionTimer());
+                metricsConfig.getLockTimeoutCounter().increment();
+                throw new IllegalStateException("현재 접속자가 많아 처리에 실패했습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            lockSample.stop(metricsConfig.getLockAcquisitionTimer());
+
+            try {
+                // [STEP 3] 락 획득 후 DB에서 최신 좌석 상태 확인 (DB가 원천)
+                Seat seat = seatRepository.findById(seatId)
+                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 좌석입니다."));
+                SeatClaimStrategy.rejectIfTaken(seat.getStatus().name());
+
+                // [STEP 4] DB 상태 변경 (AVAILABLE → SELECTED) + Reservation HELD 저장
+                SeatHold hold = reservationService.hold(seatId, userId);
+
+                // [STEP 5] Redis 캐시 업데이트 (선택적 fast-check 용도; 실패해도 DB가 정합성 보장)
+                try {
+                    seatCacheService.updateSeatStatus(seatId, SeatStatus.SELECTED.name(), ReservationService.HOLD_MINUTES);
+                } catch (Exception cacheEx) {
+                    log.warn("Redis 캐시 업데이트 실패 (무시됨). seatId={}: {}", seatId, cacheEx.getMessage());
+                }
+                return hold;
+
+            } finally {
+                if (lock.isHeldByCurrentThread()) {
+                    lock.unlock();
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("시스템 오류가 발생했습니다.");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.ticket.application.claim;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 등록된 좌석 선점 전략 목록
+ *
+ * reservation.claim-strategy 값으로 현재 전략을 선택하며,
+ * 벤치마크처럼 여러 전략을 비교할 때는 이름으로 직접 꺼내 쓸 수 있습니다.
+ */
+@Slf4j
+@Component
+public class SeatClaimStrategies {
+
+    private final Map<String, SeatClaimStrategy> strategies = new LinkedHashMap<>();
+    private final SeatClaimStrategy current;
+
+    public SeatClaimStrategies(List<SeatClaimStrategy> strategies,
+                               @Value("${reservation.claim-strategy:lock}") String strategyName) {
+        strategies.forEach(strategy -> this.strategies.put(strategy.name(), strategy));
+        this.current = get(strategyName);
+        log.info("좌석 선점 전략: {} (사용 가능: {})", strategyName, this.strategies.keySet());
+    }
+
+    public SeatClaimStrategy current() {
+        return current;
+    }
+
+    public SeatClaimStrategy get(String name) {
+        SeatClaimStrategy strategy = strategies.get(name);
+        if (strategy == null) {
+            throw new IllegalArgumentException("알 수 없는 좌석 선점 전략입니다: " + name + " (사용 가능: " + strategies.keySet() + ")");
+        }
+        return strategy;
+    }
+
+    public Set<String> names() {
+        return strategies.keySet();
+    }
+}
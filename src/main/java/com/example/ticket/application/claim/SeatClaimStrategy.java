@@ -0,0 +1,33 @@
+package com.example.ticket.application.claim;
+
+import com.example.ticket.domain.reservation.SeatHold;
+import com.example.ticket.domain.seat.SeatStatus;
+
+/**
+ * 좌석 선점 전략
+ *
+ * AVAILABLE → SELECTED 전환과 Reservation(HELD) 저장을 하나의 선점으로 처리합니다.
+ * 구현체는 reservation.claim-strategy 프로퍼티의 이름으로 선택됩니다.
+ * 이미 선점/확정된 좌석이면 IllegalStateException, 존재하지 않는 좌석이면 IllegalArgumentException을 던집니다.
+ */
+public interface SeatClaimStrategy {
+
+    /**
+     * 프로퍼티에서 사용하는 전략 이름 (예: lock, lua)
+     */
+    String name();
+
+    SeatHold claim(Long seatId, Long userId);
+
+    /**
+     * 현재 좌석 상태가 선점 불가 상태면 사용자용 메시지와 함께 거절
+     */
+    static void rejectIfTaken(String status) {
+        if (SeatStatus.SELECTED.name().equals(status)) {
+            throw new IllegalStateException("현재 다른 사용자가 결제 진행 중입니다.");
+        }
+        if (SeatStatus.CONFIRMED.name().equals(status)) {
+            throw new IllegalStateException("이미 판매가 완료된 좌석입니다.");
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.example.ticket.application.claim;
+
+import com.example.ticket.domain.reservation.Reservation;
+import com.example.ticket.domain.reservation.ReservationService;
+import com.example.ticket.domain.reservation.SeatHold;
+import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.domain.seat.SeatRepository;
+import com.example.ticket.domain.seat.SeatStatus;
+import com.example.ticket.infrastructure.redis.pubsub.SeatStatusListener;
+import com.example.ticket.infrastructure.redis.service.HoldDeadlineQueue;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 좌석 파티션 단일 작성자(single-writer) 엔진
+ *
+ * 좌석 선점 명령을 hash(seatId) 기준으로 N개의 단일 스레드 파티션 중 하나로 보냅니다.
+ * 각 파티션은 자기 좌석의 메모리 상태를 소유하고 명령을 순서대로 적용하므로 락이 필요 없고,
+ * 핫 좌석 경합은 락 대기 대신 큐 한 번 거치는 비용이 됩니다.
+ * 승자의 DB 기록은 파티션이 한 번에 꺼낸 명령 묶음 단위로 한 트랜잭션에서 처리합니다.
+ *
+ * 메모리 상태는 노드 로컬이므로 단일 노드 또는 seatId 기준 sticky 라우팅 환경에서 사용합니다.
+ * 다른 경로(결제 실패, 취소 등)의 상태 변경은 seat-status Pub/Sub으로 반영됩니다.
+ */
+@Slf4j
+@Component
+public class SeatPartitionEngine implements SeatStatusListener {
+
+    private final ReservationService reservationService;
+    private final SeatRepository seatRepository;
+    private final HoldDeadlineQueue holdDeadlineQueue;
+    private final Partition[] partitions;
+    private final Timer applyTimer;
+    private final int batchSize;
+    private final long timeoutMillis;
+
+    public SeatPartitionEngine(ReservationService reservationService,
+                               SeatRepository seatRepository,
+                               HoldDeadlineQueue holdDeadlineQueue,
+                               MeterRegistry registry,
+                               @Value("${reservation.partition.count:8}") int partitionCount,
+                               @Value("${reservation.partition.queue-capacity:10000}") int queueCapacity,
+                               @Value("${reservation.partition.batch-size:64}") int batchSize,
+                               @Value("${reservation.partition.timeout-ms:2000}") long timeoutMillis) {
+        this.reservationService = reservationService;
+        this.seatRepository = seatRepository;
+        this.holdDeadlineQueue = holdDeadlineQueue;
+        this.batchSize = batchSize;
+        this.timeoutMillis = timeoutMillis;
+
+        this.partitions = new Partition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            Partition partition = new Partition(i, queueCapacity);
+            partitions[i] = partition;
+            // 파티션별 대기 명령 수 게이지
+            Gauge.builder("seat.partition.queue.depth", partition.commands, BlockingQueue::size)
+                    .description("Pending commands in a seat partition")
+                    .tag("partition", String.valueOf(i))
+                    .register(registry);
+        }
+
+        // 파티션 배치 적용 시간 (메모리 선점 + DB 일괄 기록)
+        this.applyTimer = Timer.builder("seat.partition.apply.duration")
+                .description("Time taken to apply one partition batch")
+                .register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (Partition partition : partitions) {
+            partition.thread.start();
+        }
+        log.info("좌석 파티션 엔진 시작: 파티션 {}개, 배치 {}건", partitions.length, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (Partition partition : partitions) {
+            partition.thread.interrupt();
+        }
+    }
+
+    /**
+     * 좌석 선점 (파티션 스레드에서 적용될 때까지 최대 timeout-ms 대기)
+     */
+    public SeatHold claim(Long seatId, Long userId) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Claim claim = new Claim(seatId, userId, deadline);
+
+        if (!partitionOf(seatId).commands.offer(claim)) {
+            throw new IllegalStateException("현재 접속자가 많아 처리에 실패했습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            return claim.result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 취소된 명령은 파티션이 기록하지 않고, 기록 중이었다면 선점을 되돌림
+            if (claim.result.cancel(false)) {
+                throw new IllegalStateException("현재 접속자가 많아 처리에 실패했습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            // 시간 초과와 취소 사이에 파티션이 먼저 완료함 → 그 결과를 그대로 사용 (선점이 기록되었으면 호출자가 만료 등록)
+            try {
+                return claim.result.join();
+            } catch (CompletionException completed) {
+                throw failure(completed.getCause());
+            }
+        } catch (ExecutionException e) {
+            throw failure(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("시스템 오류가 발생했습니다.");
+        }
+    }
+
+    private static RuntimeException failure(Throwable cause) {
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause.getMessage());
+    }
+
+    /**
+     * 다른 경로의 좌석 상태 변경을 소유 파티션의 메모리 상태에 반영
+     */
+    @Override
+    public void onSeatStatusChanged(Long seatId, String status) {
+        SeatStatus seatStatus = SeatStatus.valueOf(status);
+        if (!partitionOf(seatId).commands.offer(new StatusUpdate(seatId, seatStatus))) {
+            log.warn("파티션 큐가 가득 차 상태 갱신을 생략합니다. seatId={}, status={}", seatId, status);
+        }
+    }
+
+    private Partition partitionOf(Long seatId) {
+        return partitions[Math.floorMod(Long.hashCode(seatId), partitions.length)];
+    }
+
+    private interface Command {
+        Long seatId();
+    }
+
+    private record StatusUpdate(Long seatId, SeatStatus status) implements Command {
+    }
+
+    private record Claim(Long seatId, Long userId, long deadline, CompletableFuture<SeatHold> result) implements Command {
+        Claim(Long seatId, Long userId, long deadline) {
+            this(seatId, userId, deadline, new CompletableFuture<>());
+        }
+    }
+
+    // 파티션이 소유하는 좌석 상태 (파티션 스레드에서만 접근)
+    private static class SeatState {
+        private SeatStatus status;
+        private final String seatNumber;
+
+        SeatState(SeatStatus status, String seatNumber) {
+            this.status = status;
+            this.seatNumber = seatNumber;
+        }
+    }
+
+    private class Partition {
+        private final BlockingQueue<Command> commands;
+        private final Map<Long, SeatState> seats = new HashMap<>();
+        private final Thread thread;
+
+        Partition(int index, int queueCapacity) {
+            this.commands = new ArrayBlockingQueue<>(queueCapacity);
+            this.thread = new Thread(this::run, "seat-partition-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        private void run() {
+            List<Command> batch = new ArrayList<>(batchSize);
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    batch.add(commands.take());
+                    commands.drainTo(batch, batchSize - 1);
+                    applyTimer.record(() -> apply(batch));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    log.error("좌석 파티션 배치 처리 중 에러 발생: ", e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        /**
+         * 배치 적용: 메모리 상태로 승패를 가린 뒤 승자만 한 트랜잭션에서 DB에 기록
+         */
+        private void apply(List<Command> batch) {
+            loadUnknownSeats(batch);
+
+            Map<Long, Claim> winners = new LinkedHashMap<>();
+            for (Command command : batch) {
+                SeatState state = seats.get(command.seatId());
+
+                if (command instanceof StatusUpdate update) {
+                    if (state != null) {
+                        state.status = update.status();
+                    }
+                    continue;
+                }
+
+                Claim claim = (Claim) command;
+                if (claim.result().isDone()) {
+                    // 호출자가 대기 시간 초과로 취소한 명령
+                    continue;
+                }
+                if (System.nanoTime() > claim.deadline()) {
+                    claim.result().completeExceptionally(
+                            new IllegalStateException("현재 접속자가 많아 처리에 실패했습니다. 잠시 후 다시 시도해 주세요."));
+                } else if (state == null) {
+                    claim.result().completeExceptionally(new IllegalArgumentException("존재하지 않는 좌석입니다."));
+                } else if (state.status != SeatStatus.AVAILABLE) {
+                    claim.result().completeExceptionally(rejection(state.status));
+                } else {
+                    state.status = SeatStatus.SELECTED;
+                    winners.put(claim.seatId(), claim);
+                }
+            }
+
+            if (!winners.isEmpty()) {
+                persist(winners);
+            }
+        }
+
+        // 배치에서 처음 보는 좌석은 DB에서 한 번에 읽어 메모리 상태로 적재
+        private void loadUnknownSeats(List<Command> batch) {
+            List<Long> unknown = batch.stream()
+                    .filter(command -> command instanceof Claim)
+                    .map(Command::seatId)
+                    .filter(seatId -> !seats.containsKey(seatId))
+                    .distinct()
+                    .toList();
+            if (unknown.isEmpty()) {
+                return;
+            }
+            for (Seat seat : seatRepository.findAllById(unknown)) {
+                seats.put(seat.getId(), new SeatState(seat.getStatus(), seat.getSeatNumber()));
+            }
+        }
+
+        private void persist(Map<Long, Claim> winners) {
+            Map<Long, Long> userIdBySeat = new LinkedHashMap<>();
+            winners.forEach((seatId, claim) -> userIdBySeat.put(seatId, claim.userId()));
+
+            Map<Long, Reservation> held;
+            try {
+                held = reservationService.holdEach(userIdBySeat);
+            } catch (Exception e) {
+                // DB 기록 실패: 메모리 상태를 버리고 다음 명령에서 DB 기준으로 다시 적재
+                log.error("좌석 파티션 일괄 기록 실패. seats={}: {}", winners.keySet(), e.getMessage());
+                winners.forEach((seatId, claim) -> {
+                    seats.remove(seatId);
+                    claim.result().completeExceptionally(new IllegalStateException("시스템 오류가 발생했습니다."));
+                });
+                return;
+            }
+
+            List<Long> abandoned = new ArrayList<>();
+            winners.forEach((seatId, claim) -> {
+                Reservation reservation = held.get(seatId);
+                if (reservation != null) {
+                    if (!claim.result().complete(new SeatHold(reservation, seats.get(seatId).seatNumber))) {
+                        // 기록하는 사이 호출자가 시간 초과로 포기함 → 아무도 모르는 선점이므로 바로 해제
+                        abandoned.add(reservation.getId());
+                        seats.get(seatId).status = SeatStatus.AVAILABLE;
+                    }
+                } else {
+                    // 메모리 상태와 DB가 어긋난 경우 (다른 노드/경로에서 먼저 선점) → DB 기준으로 재적재
+                    seats.remove(seatId);
+                    claim.result().completeExceptionally(
+                            new IllegalStateException("현재 다른 사용자가 결제 진행 중입니다."));
+                }
+            });
+
+            if (!abandoned.isEmpty()) {
+                releaseAbandoned(abandoned);
+            }
+        }
+
+        private void releaseAbandoned(List<Long> reservationIds) {
+            try {
+                reservationService.expireHolds(reservationIds);
+                log.warn("시간 초과로 포기된 선점 해제. reservationIds={}", reservationIds);
+            } catch (Exception e) {
+                // 해제 실패: 만료 큐에 바로 만료로 등록해 HoldExpiryScheduler가 재시도
+                // (메모리 상태와 어긋난 좌석은 다음 선점의 조건부 UPDATE 실패로 DB 기준 재적재됨)
+                log.error("포기된 선점 해제 실패, 만료 처리로 넘김. reservationIds={}: {}", reservationIds, e.getMessage());
+                try {
+                    holdDeadlineQueue.registerAll(reservationIds, System.currentTimeMillis());
+                } catch (Exception registerFailure) {
+                    // Redis까지 실패: 기동 시 만료 복구(recoverDeadlines) 대상
+                    log.error("포기된 선점 만료 등록 실패. reservationIds={}: {}", reservationIds, registerFailure.getMessage());
+                }
+            }
+        }
+
+        private IllegalStateException rejection(SeatStatus status) {
+            return status == SeatStatus.CONFIRMED
+                    ? new IllegalStateException("이미 판매가 완료된 좌석입니다.")
+                    : new IllegalStateException("현재 다른 사용자가 결제 진행 중입니다.");
+        }
+    }
+}
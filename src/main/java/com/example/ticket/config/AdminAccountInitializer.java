@@ -0,0 +1,39 @@
+package com.example.ticket.config;
+
+import com.example.ticket.domain.user.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 운영자 계정 지정 (security.admin-emails)
+ *
+ * 목록의 이메일로 이미 가입한 계정에 ADMIN 권한을 부여합니다. 목록에서 빠진 계정의 권한은 회수하지 않습니다.
+ */
+@Slf4j
+@Component
+public class AdminAccountInitializer implements CommandLineRunner {
+
+    private final UserService userService;
+    private final List<String> adminEmails;
+
+    public AdminAccountInitializer(UserService userService,
+                                   @Value("${security.admin-emails:}") List<String> adminEmails) {
+        this.userService = userService;
+        this.adminEmails = adminEmails.stream().map(String::trim).filter(email -> !email.isEmpty()).toList();
+    }
+
+    @Override
+    public void run(String... args) {
+        if (adminEmails.isEmpty()) {
+            return;
+        }
+        List<String> granted = userService.grantAdmin(adminEmails);
+        if (!granted.isEmpty()) {
+            log.info("운영자 권한 부여: {}", granted);
+        }
+    }
+}
@@ -1,26 +1,48 @@
 package com.example.ticket.config;
 
-import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.domain.performance.Performance;
+import com.example.ticket.domain.performance.PerformanceRepository;
+import com.example.ticket.domain.seat.SeatJdbcRepository;
+import com.example.ticket.domain.seat.SeatLayoutRow;
 import com.example.ticket.domain.seat.SeatRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.IntStream;
 
 @Component
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
 
     private final SeatRepository seatRepository;
+    private final SeatJdbcRepository seatJdbcRepository;
+    private final PerformanceRepository performanceRepository;
 
     @Override
+    @Transactional
     public void run(String... args) {
+        Performance performance = performanceRepository.findFirstByOrderByIdAsc()
+                .orElseGet(() -> performanceRepository.save(
+                        new Performance("테스트 공연", "테스트 공연장", LocalDateTime.now().plusDays(30))));
+
         if (seatRepository.count() > 0) {
+            // 공연 도입 이전에 만들어진 좌석은 기본 공연으로 이관
+            int assigned = seatRepository.assignPerformanceWhereMissing(performance.getId());
+            if (assigned > 0) {
+                System.out.println("✅ [System] 공연 미지정 좌석 " + assigned + "개를 공연 " + performance.getId() + "번에 배정");
+            }
             System.out.println("✅ [System] 좌석 데이터 이미 존재, 초기화 생략");
             return;
         }
-        for (int i = 1; i <= 100; i++) {
-            seatRepository.save(new Seat(i + "번 좌석"));
-        }
-        System.out.println("✅ [System] 테스트용 좌석 100개 생성 완료!");
+        // A구역 10열 x 10석 (id 순서 = 열 순서 → 좌석 번호), JDBC 배치 INSERT 한 번
+        Iterator<SeatLayoutRow> seats = IntStream.rangeClosed(1, 100)
+                .mapToObj(i -> new SeatLayoutRow("A", (i - 1) / 10 + 1, (i - 1) % 10 + 1, i + "번 좌석"))
+                .iterator();
+        seatJdbcRepository.insertAll(performance.getId(), seats, 100);
+        System.out.println("✅ [System] 테스트용 좌석 100개 생성 완료! (공연 " + performance.getId() + "번, A구역 10열 x 10석)");
     }
-}
\ No newline at end of file
+}
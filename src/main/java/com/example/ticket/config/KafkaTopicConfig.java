@@ -41,4 +41,25 @@ public class KafkaTopicConfig {
                 .build();
     }
 
+    /**
+     * 비동기 예약 요청 토픽
+     *
+     * 용도: POST /api/v1/reservations/reserve-async 로 접수된 선점 요청
+     * 파티션 키: seatId (같은 좌석 요청은 한 Consumer가 순서대로 처리)
+     *
+     * 파티션 수: 6
+     * - 처리량은 파티션 수에 비례해 확장 (Consumer 동시성 ≤ 파티션 수)
+     *
+     * 보관: 1시간 (요청 결과는 Redis에 별도 기록)
+     */
+    @Bean
+    public NewTopic reservationRequestsTopic() {
+        return TopicBuilder.name("reservation-requests")
+                .partitions(6)
+                .replicas(1)
+                .config("retention.ms", "3600000")
+                .config("cleanup.policy", "delete")
+                .build();
+    }
+
 }
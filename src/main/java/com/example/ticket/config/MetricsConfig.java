@@ -19,8 +19,12 @@ public class MetricsConfig {
     private final Counter paymentSuccessCounter;
     private final Counter paymentFailedCounter;
     private final Counter lockTimeoutCounter;
+    private final Counter seatClaimConflictCounter;
+    private final Counter seatFastPathRejectedCounter;
+    private final Counter holdExpiredCounter;
     private final Timer reservationTimer;
     private final Timer lockAcquisitionTimer;
+    private final Timer seatClaimTimer;
     private final Timer paymentTimer;
     private final AtomicInteger activeReservations;
 
@@ -48,6 +52,21 @@ public class MetricsConfig {
                 .description("Total lock acquisition timeouts")
                 .register(registry);
 
+        // Lua 선점 충돌(이미 선점/확정된 좌석) 카운터
+        this.seatClaimConflictCounter = Counter.builder("seat.claim.conflict.total")
+                .description("Total seat claims rejected because the seat was already taken")
+                .register(registry);
+
+        // 로컬 좌석 상태 비트맵으로 락/DB 없이 거절한 요청 카운터
+        this.seatFastPathRejectedCounter = Counter.builder("seat.fastpath.rejected.total")
+                .description("Total reservations rejected by the local seat state bitmap")
+                .register(registry);
+
+        // 결제 없이 만료되어 해제된 선점 카운터
+        this.holdExpiredCounter = Counter.builder("reservation.hold.expired.total")
+                .description("Total seat holds released after the hold deadline")
+                .register(registry);
+
         // 예약 처리 시간 타이머
         this.reservationTimer = Timer.builder("reservation.duration")
                 .description("Time taken for reservation process")
@@ -58,6 +77,11 @@ public class MetricsConfig {
                 .description("Time taken to acquire distributed lock")
                 .register(registry);
 
+        // Lua 선점 스크립트 실행 시간 타이머
+        this.seatClaimTimer = Timer.builder("seat.claim.duration")
+                .description("Time taken to claim a seat with the atomic Redis script")
+                .register(registry);
+
         // 결제 처리 시간 타이머
         this.paymentTimer = Timer.builder("payment.duration")
                 .description("Time taken for payment process")
@@ -69,11 +93,11 @@ public class MetricsConfig {
                 .description("Currently active reservations")
                 .register(registry);
 
-        // 대기열 길이 게이지
-        Gauge.builder("queue.waiting.size", () -> {
-            Long size = redisTemplate.opsForZSet().size("ticket:waiting:queue");
+        // 만료 대기 중인 선점 수 게이지
+        Gauge.builder("reservation.hold.pending", () -> {
+            Long size = redisTemplate.opsForZSet().size("hold:deadlines");
             return size != null ? size : 0;
-        }).description("Current waiting queue size").register(registry);
+        }).description("Seat holds waiting for payment or expiry").register(registry);
     }
 
     public void incrementActiveReservations() {
@@ -1,6 +1,10 @@
 package com.example.ticket.config;
 
+import com.example.ticket.infrastructure.redis.pubsub.AdmissionPassRevocationSubscriber;
+import com.example.ticket.infrastructure.redis.pubsub.ReservationResultPublisher;
+import com.example.ticket.infrastructure.redis.pubsub.ReservationResultSubscriber;
 import com.example.ticket.infrastructure.redis.pubsub.SeatStatusSubscriber;
+import com.example.ticket.infrastructure.redis.service.AdmissionPassService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -27,10 +31,14 @@ public class RedisConfig {
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
-            SeatStatusSubscriber subscriber) {
+            SeatStatusSubscriber subscriber,
+            ReservationResultSubscriber reservationResultSubscriber,
+            AdmissionPassRevocationSubscriber admissionPassRevocationSubscriber) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
         container.addMessageListener(subscriber, new PatternTopic("seat-status"));
+        container.addMessageListener(reservationResultSubscriber, new PatternTopic(ReservationResultPublisher.CHANNEL));
+        container.addMessageListener(admissionPassRevocationSubscriber, new PatternTopic(AdmissionPassService.REVOKE_CHANNEL));
         return container;
     }
 }
\ No newline at end of file
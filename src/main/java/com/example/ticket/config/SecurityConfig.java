@@ -1,7 +1,10 @@
 package com.example.ticket.config;
 
+import com.example.ticket.domain.user.Role;
 import com.example.ticket.infrastructure.jwt.JwtAuthenticationFilter;
+import com.example.ticket.infrastructure.ratelimit.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -28,6 +31,8 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    private final RateLimitFilter rateLimitFilter;
+
     private final PasswordEncoder passwordEncoder;
 
     @Bean
@@ -47,17 +52,37 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/v1/auth/**").permitAll()
+                        .requestMatchers("/api/v1/admin/**").hasRole(Role.ADMIN.name())
+                        .requestMatchers("/actuator/admission").hasRole(Role.ADMIN.name())
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers("/api/v1/payments/callback").permitAll()
+                        // EventSource는 헤더를 못 보내므로 공개 (대기열 구독은 서명된 구독 토큰으로 확인)
                         .requestMatchers("/api/v1/sse/**").permitAll()
                         .requestMatchers("/error").permitAll()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 사용자 한도는 인증된 사용자 기준이므로 JWT 인증 뒤에 적용
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
+    // @Component 필터가 서블릿 필터로 한 번 더 등록되어 시큐리티 체인 밖(인증 전)에서 먼저 실행되지 않도록 비활성화
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
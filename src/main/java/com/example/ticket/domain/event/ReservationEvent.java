@@ -20,7 +20,8 @@ public class ReservationEvent {
     public enum EventType {
         RESERVATION_SUCCESS,  // 예약 성공
         RESERVATION_FAILED,   // 예약 실패
-        RESERVATION_CANCELLED // 예약 취소
+        RESERVATION_CANCELLED, // 예약 취소
+        PAYMENT_REFUND_REQUIRED // 선점 만료 후 결제 승인 → 환불 필요 (보상 이벤트)
     }
 
     // 예약 성공 이벤트 생성 팩토리 메서드
@@ -59,6 +60,18 @@ public class ReservationEvent {
         );
     }
 
+    // 환불 필요 이벤트 생성 팩토리 메서드 (선점이 만료된 뒤 결제가 승인된 경우)
+    public static ReservationEvent refundRequired(Long reservationId, Long userId, Long seatId, String seatNumber) {
+        return new ReservationEvent(
+                reservationId,
+                userId,
+                seatId,
+                seatNumber,
+                LocalDateTime.now(),
+                EventType.PAYMENT_REFUND_REQUIRED
+        );
+    }
+
     // JSON 문자열로 변환 (Kafka 전송용)
     public String toJson() {
         return String.format(
@@ -0,0 +1,42 @@
+package com.example.ticket.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 비동기 예약 요청 (reservation-requests 토픽, 파티션 키 = seatId)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationRequestEvent {
+    private String requestId;
+    private Long userId;
+    private Long seatId;
+    private LocalDateTime requestedAt;
+
+    // 새 요청 생성 팩토리 메서드 (requestId 발급)
+    public static ReservationRequestEvent of(Long userId, Long seatId) {
+        return new ReservationRequestEvent(
+                UUID.randomUUID().toString(),
+                userId,
+                seatId,
+                LocalDateTime.now()
+        );
+    }
+
+    // JSON 문자열로 변환 (Kafka 전송용)
+    public String toJson() {
+        return String.format(
+                "{\"requestId\":\"%s\",\"userId\":%d,\"seatId\":%d,\"requestedAt\":\"%s\"}",
+                requestId,
+                userId,
+                seatId,
+                requestedAt
+        );
+    }
+}
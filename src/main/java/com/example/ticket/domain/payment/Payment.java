@@ -50,4 +50,13 @@ public class Payment {
     public void fail() {
         this.status = PaymentStatus.FAILED;
     }
+
+    public void refundRequired() {
+        this.status = PaymentStatus.REFUND_REQUIRED;
+    }
+
+    // 콜백이 이미 처리된 결제인지 (PG 재전송 등 중복 콜백 판별)
+    public boolean isSettled() {
+        return this.status != PaymentStatus.PENDING;
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.ticket.domain.payment;
 
 public enum PaymentStatus {
-    PENDING, SUCCESS, FAILED
+    PENDING, SUCCESS, FAILED,
+    REFUND_REQUIRED // 결제는 승인됐지만 선점이 이미 만료되어 환불 대상
 }
@@ -0,0 +1,36 @@
+package com.example.ticket.domain.performance;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공연 (회차)
+ *
+ * 좌석, Redis 좌석 키, 좌석 맵은 공연 단위로 나뉩니다.
+ */
+@Entity
+@Table(name = "performances")
+@Getter
+@NoArgsConstructor
+public class Performance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    private String venue;
+
+    private LocalDateTime startsAt;
+
+    public Performance(String title, String venue, LocalDateTime startsAt) {
+        this.title = title;
+        this.venue = venue;
+        this.startsAt = startsAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.ticket.domain.performance;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PerformanceRepository extends JpaRepository<Performance, Long> {
+
+    List<Performance> findAllByStartsAtAfter(LocalDateTime time);
+
+    Optional<Performance> findFirstByStartsAtAfterOrderByStartsAtAsc(LocalDateTime time);
+
+    Optional<Performance> findFirstByOrderByIdAsc();
+}
@@ -0,0 +1,41 @@
+package com.example.ticket.domain.performance;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PerformanceService {
+
+    private final PerformanceRepository performanceRepository;
+
+    /**
+     * 요청의 performanceId 확인 (없으면 가장 가까운 예정 공연, 예정 공연이 없으면 첫 공연)
+     */
+    public Long resolve(Long performanceId) {
+        if (performanceId != null) {
+            if (!performanceRepository.existsById(performanceId)) {
+                throw new IllegalArgumentException("존재하지 않는 공연입니다: " + performanceId);
+            }
+            return performanceId;
+        }
+        return performanceRepository.findFirstByStartsAtAfterOrderByStartsAtAsc(LocalDateTime.now())
+                .or(performanceRepository::findFirstByOrderByIdAsc)
+                .map(Performance::getId)
+                .orElseThrow(() -> new IllegalArgumentException("등록된 공연이 없습니다."));
+    }
+
+    /**
+     * 아직 시작하지 않은 공연 ID 목록 (좌석 상태 재동기화 등 판매 중인 공연만 대상으로 하는 작업용)
+     */
+    public List<Long> upcomingIds() {
+        return performanceRepository.findAllByStartsAtAfter(LocalDateTime.now()).stream()
+                .map(Performance::getId)
+                .toList();
+    }
+}
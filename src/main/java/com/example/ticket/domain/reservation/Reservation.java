@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_reservation_status", columnList = "status"))
 @Getter
 @NoArgsConstructor
 public class Reservation {
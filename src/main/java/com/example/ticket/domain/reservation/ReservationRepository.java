@@ -1,8 +1,13 @@
 package com.example.ticket.domain.reservation;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -10,4 +15,18 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     void deleteBySeatIdAndUserId(Long seatId, Long userId);
 
     Optional<Reservation> findBySeatIdAndUserId(Long seatId, Long userId);
+
+    List<Reservation> findAllByIdInAndStatus(Collection<Long> ids, ReservationStatus status);
+
+    // 상태별 id 순 페이지 조회 (idx_reservation_status 사용)
+    List<Reservation> findTop1000ByStatusAndIdGreaterThanOrderByIdAsc(ReservationStatus status, Long id);
+
+    /**
+     * 일괄 조건부 상태 변경: 현재 상태가 expected인 예약만 next로 변경
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Reservation r set r.status = :next where r.id in :ids and r.status = :expected")
+    int updateStatusIn(@Param("ids") Collection<Long> ids,
+                       @Param("expected") ReservationStatus expected,
+                       @Param("next") ReservationStatus next);
 }
@@ -3,12 +3,22 @@ package com.example.ticket.domain.reservation;
 import com.example.ticket.domain.event.ReservationEvent;
 import com.example.ticket.domain.seat.Seat;
 import com.example.ticket.domain.seat.SeatRepository;
+import com.example.ticket.domain.seat.SeatStatus;
 import com.example.ticket.infrastructure.kafka.ReservationEventProducer;
+import com.example.ticket.infrastructure.redis.pubsub.SeatStatusPublisher;
+import com.example.ticket.infrastructure.redis.service.SeatCacheService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -16,20 +26,121 @@ public class ReservationService {
 
     private final SeatRepository seatRepository;
     private final ReservationRepository reservationRepository;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final SeatCacheService seatCacheService;
     private final ReservationEventProducer reservationEventProducer;
+    private final SeatStatusPublisher seatStatusPublisher;
+
+    public static final long HOLD_MINUTES = 5; // 선점 유지 시간
 
     /**
      * 좌석 선점: Seat 상태를 SELECTED로 변경 후 Reservation을 HELD 상태로 저장
      */
     @Transactional
-    public Reservation hold(Long seatId, Long userId) {
+    public SeatHold hold(Long seatId, Long userId) {
         Seat seat = seatRepository.findById(seatId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 좌석입니다."));
         seat.select();
 
         Reservation reservation = new Reservation(userId, seatId);
-        return reservationRepository.save(reservation);
+        return new SeatHold(reservationRepository.save(reservation), seat.getSeatNumber());
+    }
+
+    /**
+     * 조건부 UPDATE 선점: AVAILABLE일 때만 SELECTED로 변경하고 Reservation을 HELD 상태로 저장
+     *
+     * 영향 행 수가 0이면 다른 사용자가 먼저 선점한 것이므로 현재 상태와 함께 거절합니다.
+     */
+    @Transactional
+    public SeatHold holdIfAvailable(Long seatId, Long userId) {
+        int updated = seatRepository.updateStatusIf(seatId, SeatStatus.AVAILABLE, SeatStatus.SELECTED);
+
+        Seat seat = seatRepository.findById(seatId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 좌석입니다."));
+        if (updated == 0) {
+            throw new IllegalStateException("선점할 수 없는 좌석입니다. 현재 상태: " + seat.getStatus());
+        }
+
+        Reservation reservation = new Reservation(userId, seatId);
+        return new SeatHold(reservationRepository.save(reservation), seat.getSeatNumber());
+    }
+
+    /**
+     * 일괄 조건부 선점 (파티션 엔진의 배치 기록용)
+     *
+     * 좌석별로 AVAILABLE → SELECTED 조건부 UPDATE를 수행하고, 성공한 좌석의 Reservation만 한 트랜잭션에서 저장합니다.
+     * 조건부 UPDATE에 실패한 좌석(DB 상태가 이미 바뀐 경우)은 결과에서 빠집니다.
+     *
+     * @param userIdBySeat seatId → userId
+     * @return seatId → 저장된 Reservation
+     */
+    @Transactional
+    public Map<Long, Reservation> holdEach(Map<Long, Long> userIdBySeat) {
+        List<Reservation> reservations = new ArrayList<>();
+        userIdBySeat.forEach((seatId, userId) -> {
+            if (seatRepository.updateStatusIf(seatId, SeatStatus.AVAILABLE, SeatStatus.SELECTED) == 1) {
+                reservations.add(new Reservation(userId, seatId));
+            }
+        });
+
+        Map<Long, Reservation> held = new HashMap<>();
+        reservationRepository.saveAll(reservations).forEach(r -> held.put(r.getSeatId(), r));
+        return held;
+    }
+
+    /**
+     * 다좌석 일괄 선점 (전부 성공 또는 전부 실패)
+     *
+     * 좌석들을 IN 목록 조건부 UPDATE 한 번으로 AVAILABLE → SELECTED 변경합니다.
+     * InnoDB는 PK 오름차순으로 행 잠금을 잡으므로 겹치는 묶음끼리도 교착 없이 한쪽이 기다립니다.
+     * 변경된 행 수가 요청 좌석 수보다 적으면 예외로 트랜잭션 전체를 롤백합니다.
+     *
+     * @param seatIds 중복 없는 seatId 목록
+     * @return seatId 오름차순의 SeatHold 목록
+     */
+    @Transactional
+    public List<SeatHold> holdAll(Collection<Long> seatIds, Long userId) {
+        List<Long> orderedSeatIds = seatIds.stream().sorted().toList();
+
+        int updated = seatRepository.updateStatusIn(orderedSeatIds, SeatStatus.AVAILABLE, SeatStatus.SELECTED);
+        if (updated != orderedSeatIds.size()) {
+            throw new IllegalStateException("선택한 좌석 중 이미 선점/판매되었거나 존재하지 않는 좌석이 있습니다.");
+        }
+
+        Map<Long, String> seatNumberBySeatId = new HashMap<>();
+        seatRepository.findAllById(orderedSeatIds).forEach(seat -> seatNumberBySeatId.put(seat.getId(), seat.getSeatNumber()));
+
+        List<Reservation> reservations = reservationRepository.saveAll(
+                orderedSeatIds.stream().map(seatId -> new Reservation(userId, seatId)).toList());
+
+        return reservations.stream()
+                .map(reservation -> new SeatHold(reservation, seatNumberBySeatId.get(reservation.getSeatId())))
+                .toList();
+    }
+
+    /**
+     * 선점 만료: HELD 예약을 CANCELLED로, 해당 좌석을 SELECTED → AVAILABLE로 일괄 변경 (각각 UPDATE 한 번)
+     *
+     * 이미 확정/취소된 예약은 건너뜁니다. 좌석 UPDATE가 version을 올리므로
+     * 만료와 동시에 진행 중이던 확정은 낙관적 락 충돌로 실패합니다.
+     *
+     * @return 해제된 좌석 목록 (상태 브로드캐스트용)
+     */
+    @Transactional
+    public List<Seat> expireHolds(Collection<Long> reservationIds) {
+        List<Reservation> held = reservationRepository.findAllByIdInAndStatus(reservationIds, ReservationStatus.HELD);
+        if (held.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> heldIds = held.stream().map(Reservation::getId).collect(Collectors.toSet());
+        Set<Long> seatIds = held.stream().map(Reservation::getSeatId).collect(Collectors.toSet());
+
+        reservationRepository.updateStatusIn(heldIds, ReservationStatus.HELD, ReservationStatus.CANCELLED);
+        seatRepository.updateStatusIn(seatIds, SeatStatus.SELECTED, SeatStatus.AVAILABLE);
+
+        return seatRepository.findAllById(seatIds).stream()
+                .filter(seat -> seat.getStatus() == SeatStatus.AVAILABLE)
+                .toList();
     }
 
     /**
@@ -83,8 +194,9 @@ public class ReservationService {
                 reservationRepository.save(reservation);
             });
 
-            redisTemplate.delete("state:seat:" + seatId);
+            seatCacheService.deleteSeatStatus(seatId);
             reservationEventProducer.publish(ReservationEvent.cancelled(userId, seatId, seat.getSeatNumber()));
+            seatStatusPublisher.publish(seatId, seat.getSeatNumber(), "AVAILABLE");
 
             return "SUCCESS: 취소가 완료되었습니다.";
 
@@ -0,0 +1,14 @@
+package com.example.ticket.domain.reservation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 좌석 선점 결과: HELD 상태의 예약 + 브로드캐스트용 좌석 번호
+ */
+@Getter
+@AllArgsConstructor
+public class SeatHold {
+    private Reservation reservation;
+    private String seatNumber;
+}
@@ -3,8 +3,13 @@ package com.example.ticket.domain.seat;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_seat_performance_status", columnList = "performance_id, status"),
+        @Index(name = "idx_seat_performance_section", columnList = "performance_id, section, seat_row, seat_col")
+})
 @Getter
 @NoArgsConstructor
 public class Seat {
@@ -14,14 +19,39 @@ public class Seat {
 
     private String seatNumber;
 
+    // 공연 (좌석 조회/캐시/키는 공연 단위로 나뉨)
+    private Long performanceId;
+
+    // 좌석 배치 (구역 / 열 / 열 내 위치, 1부터). 배치가 없는 좌석은 연석 배정 대상에서 제외
+    private String section;
+    private Integer seatRow;
+    private Integer seatCol;
+
     @Enumerated(EnumType.STRING)
     private SeatStatus status = SeatStatus.AVAILABLE;
 
+    // 낙관적 락 버전 (기존 행은 0으로 채워짐)
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     public Seat(String seatNumber) {
         this.seatNumber = seatNumber;
         this.status = SeatStatus.AVAILABLE;
     }
 
+    public Seat(Long performanceId, String seatNumber, String section, int seatRow, int seatCol) {
+        this(seatNumber);
+        this.performanceId = performanceId;
+        this.section = section;
+        this.seatRow = seatRow;
+        this.seatCol = seatCol;
+    }
+
+    public boolean hasLayout() {
+        return section != null && seatRow != null && seatCol != null;
+    }
+
     /**
      * 좌석 선점: AVAILABLE → SELECTED
      */
@@ -0,0 +1,55 @@
+package com.example.ticket.domain.seat;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 좌석 일괄 등록 (JDBC 배치)
+ *
+ * Seat의 id는 IDENTITY라 Hibernate가 INSERT를 배치로 묶지 못하므로, 대량 등록은 JPA를 거치지 않고
+ * JdbcTemplate 배치로 보냅니다. 데이터소스 URL의 rewriteBatchedStatements=true로 드라이버가 배치를
+ * 다중 행 INSERT 하나로 바꿔 보내며, id는 MySQL auto_increment가 묶음 단위로 연속 할당합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_SQL = """
+            insert into seat (performance_id, seat_number, section, seat_row, seat_col, status, version)
+            values (?, ?, ?, ?, ?, 'AVAILABLE', 0)
+            """;
+
+    /**
+     * 좌석 배치를 batchSize개씩 묶어 INSERT (전체가 한 트랜잭션, 중간 실패 시 전부 롤백)
+     *
+     * @param rows 스트리밍 입력 (한 번에 batchSize개만 메모리에 올림)
+     * @return 등록된 좌석 수
+     */
+    @Transactional
+    public int insertAll(Long performanceId, Iterator<SeatLayoutRow> rows, int batchSize) {
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        int inserted = 0;
+        while (rows.hasNext()) {
+            SeatLayoutRow row = rows.next();
+            batch.add(new Object[]{performanceId, row.seatNumber(), row.section(), row.seatRow(), row.seatCol()});
+            if (batch.size() == batchSize) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                inserted += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+            inserted += batch.size();
+        }
+        return inserted;
+    }
+}
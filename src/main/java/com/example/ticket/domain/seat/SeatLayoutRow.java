@@ -0,0 +1,19 @@
+package com.example.ticket.domain.seat;
+
+/**
+ * 좌석 배치 한 줄 (좌석 일괄 등록 입력)
+ */
+public record SeatLayoutRow(String section, int seatRow, int seatCol, String seatNumber) {
+
+    public SeatLayoutRow {
+        if (section == null || section.isBlank()) {
+            throw new IllegalArgumentException("구역(section)은 필수입니다.");
+        }
+        if (seatRow < 1 || seatCol < 1) {
+            throw new IllegalArgumentException("열/번호는 1 이상이어야 합니다: " + section + " " + seatRow + "-" + seatCol);
+        }
+        if (seatNumber == null || seatNumber.isBlank()) {
+            seatNumber = section + "구역 " + seatRow + "열 " + seatCol + "번";
+        }
+    }
+}
@@ -1,8 +1,63 @@
 package com.example.ticket.domain.seat;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface SeatRepository extends JpaRepository<Seat, Long> {
-}
\ No newline at end of file
+
+    // 공연 단위 조회 (idx_seat_performance_status)
+    List<Seat> findAllByPerformanceId(Long performanceId);
+
+    List<Seat> findAllByPerformanceIdAndStatus(Long performanceId, SeatStatus status);
+
+    // 공연의 마지막 좌석 ID (좌석이 없으면 0)
+    @Query("select coalesce(max(s.id), 0) from Seat s where s.performanceId = :performanceId")
+    Long findMaxIdByPerformanceId(@Param("performanceId") Long performanceId);
+
+    // afterId 이후 추가된 공연 좌석 ID 목록 (엔티티를 만들지 않는 캐시 예열용 조회)
+    @Query("select s.id from Seat s where s.performanceId = :performanceId and s.id > :afterId order by s.id")
+    List<Long> findIdsByPerformanceIdAfter(@Param("performanceId") Long performanceId, @Param("afterId") Long afterId);
+
+    // 좌석의 공연 ID (공연 미지정 좌석은 0, 없는 좌석은 empty)
+    @Query("select coalesce(s.performanceId, 0) from Seat s where s.id = :seatId")
+    Optional<Long> findPerformanceIdById(@Param("seatId") Long seatId);
+
+    /**
+     * 공연이 지정되지 않은 기존 좌석을 공연에 배정 (공연 도입 이전 데이터 이관용)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Seat s set s.performanceId = :performanceId where s.performanceId is null")
+    int assignPerformanceWhereMissing(@Param("performanceId") Long performanceId);
+
+    /**
+     * 조건부 상태 변경: 현재 상태가 expected일 때만 next로 변경 (version도 함께 증가)
+     *
+     * @return 변경된 행 수 (0이면 다른 트랜잭션이 먼저 변경함)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Seat s set s.status = :next, s.version = s.version + 1 " +
+            "where s.id = :seatId and s.status = :expected")
+    int updateStatusIf(@Param("seatId") Long seatId,
+                       @Param("expected") SeatStatus expected,
+                       @Param("next") SeatStatus next);
+
+    /**
+     * 일괄 조건부 상태 변경 (IN 목록, 한 번의 UPDATE)
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Seat s set s.status = :next, s.version = s.version + 1 " +
+            "where s.id in :seatIds and s.status = :expected")
+    int updateStatusIn(@Param("seatIds") Collection<Long> seatIds,
+                       @Param("expected") SeatStatus expected,
+                       @Param("next") SeatStatus next);
+}
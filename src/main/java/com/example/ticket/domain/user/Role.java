@@ -0,0 +1,6 @@
+package com.example.ticket.domain.user;
+
+public enum Role {
+    USER,  // 일반 사용자 (예매)
+    ADMIN  // 운영자 (좌석 일괄 등록, 입장 한도 조정)
+}
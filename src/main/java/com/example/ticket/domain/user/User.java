@@ -3,6 +3,7 @@ package com.example.ticket.domain.user;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -25,6 +26,12 @@ public class User {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 권한 (기존 행은 USER로 채워짐)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @ColumnDefault("'USER'")
+    private Role role = Role.USER;
+
     private User(String email, String encodedPassword) {
         this.email = email;
         this.password = encodedPassword;
@@ -34,4 +41,8 @@ public class User {
     public static User create(String email, String encodedPassword) {
         return new User(email, encodedPassword);
     }
+
+    public void grantAdmin() {
+        this.role = Role.ADMIN;
+    }
 }
@@ -8,7 +8,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 @Service
 @Transactional(readOnly = true)
@@ -26,7 +28,7 @@ public class UserService implements UserDetailsService {
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getEmail())
                 .password(user.getPassword())
-                .authorities(Collections.emptyList())
+                .roles(user.getRole().name())
                 .build();
     }
 
@@ -35,6 +37,23 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
     }
 
+    /**
+     * 운영자 권한 부여 (이미 가입한 계정만 대상)
+     *
+     * @return 권한이 새로 부여된 계정의 이메일 목록
+     */
+    @Transactional
+    public List<String> grantAdmin(Collection<String> emails) {
+        List<String> granted = new ArrayList<>();
+        for (User user : userRepository.findAllByEmailIn(emails)) {
+            if (user.getRole() != Role.ADMIN) {
+                user.grantAdmin();
+                granted.add(user.getEmail());
+            }
+        }
+        return granted;
+    }
+
     @Transactional
     public User signup(String email, String rawPassword) {
         if (userRepository.existsByEmail(email)) {
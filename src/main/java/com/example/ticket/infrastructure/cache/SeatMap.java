@@ -0,0 +1,318 @@
+package com.example.ticket.infrastructure.cache;
+
+import com.example.ticket.domain.performance.PerformanceService;
+import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.domain.seat.SeatRepository;
+import com.example.ticket.domain.seat.SeatStatus;
+import com.example.ticket.infrastructure.redis.pubsub.SeatStatusListener;
+import com.example.ticket.infrastructure.redis.service.SeatKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 버전이 붙은 좌석 맵 (좌석 조회 API용 메모리 스냅샷, 공연 단위)
+ *
+ * 공연별로 처음 조회될 때(예정 공연은 기동 시) DB에서 한 번 적재한 뒤 seat-status Pub/Sub으로 좌석 단위 갱신하며,
+ * 변경될 때마다 그 공연의 version이 1 증가합니다.
+ * 조회는 version이 바뀐 경우에만 불변 스냅샷을 다시 만들고, 그 외에는 같은 스냅샷을 그대로 돌려줍니다.
+ *
+ * version은 노드마다 따로 증가하므로 epoch(노드 기동 시각)와 함께 써야 비교할 수 있습니다.
+ * 유실된 메시지는 주기적인 DB 재동기화로 보정하며, DB를 읽는 동안 Pub/Sub으로 먼저 바뀐 좌석은 덮어쓰지 않습니다.
+ *
+ * 좌석 상태 변경 1건마다 version이 정확히 1 증가하므로, 최근 변경은 version % 용량 위치의 링 버퍼에 남깁니다.
+ * 클라이언트의 version이 버퍼 범위 안이면 그 이후 변경분만, 범위를 벗어났으면 전체 재조회(resync)를 안내합니다.
+ *
+ * 대형 공연장용으로 좌석 상태를 좌석당 2비트(SeatStatus.ordinal)로 묶은 비트맵도 함께 유지합니다.
+ * 비트맵의 좌석 순서는 좌석 배치(layout, seatId 오름차순)를 따르며, 배치는 좌석 추가/삭제 때만 바뀝니다.
+ */
+@Slf4j
+@Component
+public class SeatMap implements SeatStatusListener {
+
+    private final SeatRepository seatRepository;
+    private final PerformanceService performanceService;
+    private final SeatKeys seatKeys;
+    private final int changeLogSize;
+
+    private final long epoch = System.currentTimeMillis();
+
+    // performanceId → 공연 좌석 맵
+    private final Map<Long, Slice> slices = new ConcurrentHashMap<>();
+
+    public SeatMap(SeatRepository seatRepository,
+                   PerformanceService performanceService,
+                   SeatKeys seatKeys,
+                   @Value("${reservation.seat-map.change-log-size:4096}") int changeLogSize) {
+        this.seatRepository = seatRepository;
+        this.performanceService = performanceService;
+        this.seatKeys = seatKeys;
+        this.changeLogSize = changeLogSize;
+    }
+
+    public record SeatEntry(Long seatId, String seatNumber, String status) {
+    }
+
+    public record LayoutEntry(Long seatId, String seatNumber) {
+    }
+
+    /**
+     * 좌석 배치 (비트맵의 좌석 순서), version은 배치가 바뀐 시점의 좌석 맵 version
+     */
+    public record Layout(long epoch, long performanceId, long version, List<LayoutEntry> seats) {
+
+        public String etag() {
+            return "\"" + epoch + "-" + performanceId + "-L" + version + "\"";
+        }
+    }
+
+    /**
+     * @param bitmap 좌석당 2비트 상태 (layoutVersion 배치 순서)
+     */
+    public record Snapshot(long epoch, long performanceId, long version, List<SeatEntry> seats,
+                           byte[] bitmap, long layoutVersion) {
+
+        // HTTP ETag (노드가 다르면 epoch가 달라 항상 불일치 → 전체 응답)
+        public String etag() {
+            return "\"" + epoch + "-" + performanceId + "-" + version + "\"";
+        }
+    }
+
+    /**
+     * since 이후 변경분
+     *
+     * @param resync true면 변경 로그로 따라올 수 없으므로 전체 좌석 맵을 다시 받아야 함 (changes는 비어 있음)
+     * @param changes 좌석별 최신 상태만 (seatId 중복 없음)
+     */
+    public record Changes(long epoch, long version, boolean resync, List<SeatEntry> changes) {
+    }
+
+    // 판매 중인 공연은 첫 요청 전에 미리 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        performanceService.upcomingIds().forEach(this::slice);
+    }
+
+    /**
+     * 적재된 공연들을 DB 기준으로 재동기화 (달라진 좌석이 있을 때만 version 증가)
+     */
+    @Scheduled(fixedDelayString = "${reservation.seat-map.resync-ms:60000}",
+            initialDelayString = "${reservation.seat-map.resync-ms:60000}")
+    public void resync() {
+        slices.keySet().forEach(this::resync);
+    }
+
+    /**
+     * 공연 하나 재동기화 (좌석 추가/가져오기 후 호출)
+     */
+    public void resync(Long performanceId) {
+        // DB 조회 전 version: 조회하는 사이 Pub/Sub으로 바뀐 좌석은 DB 값이 더 오래됐을 수 있으므로 덮어쓰지 않음
+        Slice current = slices.get(performanceId);
+        long readVersion = current != null ? current.version : 0;
+
+        List<Seat> seats = seatRepository.findAllByPerformanceId(performanceId);
+        seats.forEach(seat -> seatKeys.remember(seat.getId(), performanceId));
+        slices.computeIfAbsent(performanceId, Slice::new).resync(seats, readVersion);
+    }
+
+    @Override
+    public void onSeatStatusChanged(Long seatId, String status) {
+        Slice slice = slices.get(seatKeys.performanceOf(seatId));
+        if (slice != null) {
+            slice.onSeatStatusChanged(seatId, status);
+        }
+    }
+
+    /**
+     * 공연의 현재 스냅샷 (version이 그대로면 이전 스냅샷 재사용)
+     */
+    public Snapshot snapshot(Long performanceId) {
+        return slice(performanceId).snapshot();
+    }
+
+    /**
+     * 공연의 현재 좌석 배치
+     */
+    public Layout layout(Long performanceId) {
+        return slice(performanceId).layout;
+    }
+
+    /**
+     * since 이후 변경된 좌석 (같은 epoch의 since가 링 버퍼 범위 안일 때만)
+     *
+     * @param sinceEpoch 클라이언트가 마지막으로 받은 epoch (null이면 검사 생략)
+     */
+    public Changes changesSince(Long performanceId, Long sinceEpoch, long since) {
+        return slice(performanceId).changesSince(sinceEpoch, since);
+    }
+
+    // 처음 요청된 공연은 DB에서 적재
+    private Slice slice(Long performanceId) {
+        Slice slice = slices.get(performanceId);
+        if (slice == null) {
+            resync(performanceId);
+            slice = slices.get(performanceId);
+        }
+        return slice;
+    }
+
+    /**
+     * 공연 하나의 좌석 맵
+     */
+    private class Slice {
+
+        private final long performanceId;
+
+        // 변경 로그 링 버퍼 (version v의 변경 좌석 = changedSeatIds[v % changeLogSize], this로 보호)
+        private final long[] changedSeatIds = new long[changeLogSize];
+        // 이 version 이하를 가진 클라이언트는 변경분으로 따라올 수 없음 (좌석 추가/삭제 등 구조 변경 시점)
+        private long floorVersion;
+
+        // 2비트 좌석 상태 비트맵 (좌석 i → packed[i / 4]의 (i % 4) * 2 비트부터, this로 보호)
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private byte[] packed = new byte[0];
+        private volatile Layout layout;
+
+        // seatId 순서 유지 (this로 보호)
+        private final Map<Long, SeatEntry> entries = new TreeMap<>();
+        private volatile long version;
+        private volatile Snapshot snapshot;
+
+        Slice(Long performanceId) {
+            this.performanceId = performanceId;
+            this.layout = new Layout(epoch, performanceId, 0, List.of());
+            this.snapshot = new Snapshot(epoch, performanceId, 0, List.of(), new byte[0], 0);
+        }
+
+        /**
+         * @param readVersion DB를 읽기 직전의 version (그 이후 변경된 좌석은 현재 상태 유지)
+         */
+        synchronized void resync(List<Seat> seats, long readVersion) {
+            if (version > 0 && (readVersion < floorVersion || version - readVersion > changeLogSize)) {
+                // 읽는 사이 구조 변경이 있었거나 변경이 너무 많아 어느 좌석이 더 최신인지 알 수 없음 → 다음 주기에 재시도
+                log.debug("좌석 맵 재동기화 건너뜀: 공연 {}, readVersion={}, version={}", performanceId, readVersion, version);
+                return;
+            }
+            Set<Long> changedSinceRead = new HashSet<>();
+            for (long v = readVersion + 1; v <= version; v++) {
+                changedSinceRead.add(changedSeatIds[(int) (v % changeLogSize)]);
+            }
+
+            Map<Long, SeatEntry> loaded = new TreeMap<>();
+            for (Seat seat : seats) {
+                SeatEntry newer = changedSinceRead.contains(seat.getId()) ? entries.get(seat.getId()) : null;
+                loaded.put(seat.getId(), newer != null
+                        ? newer
+                        : new SeatEntry(seat.getId(), seat.getSeatNumber(), seat.getStatus().name()));
+            }
+            if (version > 0 && loaded.equals(entries)) {
+                return;
+            }
+
+            if (version > 0 && loaded.keySet().equals(entries.keySet())) {
+                // 상태만 달라진 좌석은 변경 로그에 한 건씩 기록
+                loaded.forEach((seatId, entry) -> {
+                    if (!entry.equals(entries.get(seatId))) {
+                        entries.put(seatId, entry);
+                        setPacked(seatId, entry.status());
+                        recordChange(seatId);
+                    }
+                });
+            } else {
+                // 첫 적재, 좌석 추가/삭제는 변경분으로 표현할 수 없으므로 기존 클라이언트 전체를 resync 대상으로
+                entries.clear();
+                entries.putAll(loaded);
+                version++;
+                floorVersion = version;
+                rebuildLayout();
+            }
+            log.info("좌석 맵 재동기화: 공연 {}, {}석, version={}", performanceId, entries.size(), version);
+        }
+
+        synchronized void onSeatStatusChanged(Long seatId, String status) {
+            SeatEntry entry = entries.get(seatId);
+            if (entry == null || Objects.equals(entry.status(), status)) {
+                return;
+            }
+            entries.put(seatId, new SeatEntry(seatId, entry.seatNumber(), status));
+            setPacked(seatId, status);
+            recordChange(seatId);
+        }
+
+        synchronized Changes changesSince(Long sinceEpoch, long since) {
+            long current = version;
+            boolean resync = (sinceEpoch != null && sinceEpoch != epoch)
+                    || since > current
+                    || since < floorVersion
+                    || current - since > changeLogSize;
+            if (resync) {
+                return new Changes(epoch, current, true, List.of());
+            }
+
+            Map<Long, SeatEntry> changed = new LinkedHashMap<>();
+            for (long v = since + 1; v <= current; v++) {
+                long seatId = changedSeatIds[(int) (v % changeLogSize)];
+                changed.remove(seatId); // 마지막 변경 순서로 정렬
+                changed.put(seatId, entries.get(seatId));
+            }
+            return new Changes(epoch, current, false, List.copyOf(changed.values()));
+        }
+
+        Snapshot snapshot() {
+            Snapshot current = snapshot;
+            if (current.version() == version) {
+                return current;
+            }
+            synchronized (this) {
+                if (snapshot.version() != version) {
+                    snapshot = new Snapshot(epoch, performanceId, version, List.copyOf(entries.values()),
+                            packed.clone(), layout.version());
+                }
+                return snapshot;
+            }
+        }
+
+        // 좌석 배치와 비트맵을 entries 기준으로 다시 만듦 (구조 변경 시)
+        private void rebuildLayout() {
+            ordinals.clear();
+            packed = new byte[(entries.size() + 3) / 4];
+            List<LayoutEntry> seats = new ArrayList<>(entries.size());
+            for (SeatEntry entry : entries.values()) {
+                ordinals.put(entry.seatId(), seats.size());
+                seats.add(new LayoutEntry(entry.seatId(), entry.seatNumber()));
+                setPacked(entry.seatId(), entry.status());
+            }
+            layout = new Layout(epoch, performanceId, version, List.copyOf(seats));
+        }
+
+        private void setPacked(Long seatId, String status) {
+            Integer ordinal = ordinals.get(seatId);
+            if (ordinal == null) {
+                return;
+            }
+            int shift = (ordinal % 4) * 2;
+            int code = SeatStatus.valueOf(status).ordinal();
+            packed[ordinal / 4] = (byte) ((packed[ordinal / 4] & ~(0b11 << shift)) | (code << shift));
+        }
+
+        // 좌석 한 건 변경 기록 (version 1 증가)
+        private void recordChange(Long seatId) {
+            version++;
+            changedSeatIds[(int) (version % changeLogSize)] = seatId;
+        }
+    }
+}
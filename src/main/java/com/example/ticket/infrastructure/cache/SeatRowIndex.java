@@ -0,0 +1,267 @@
+package com.example.ticket.infrastructure.cache;
+
+import com.example.ticket.domain.performance.PerformanceService;
+import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.domain.seat.SeatRepository;
+import com.example.ticket.domain.seat.SeatStatus;
+import com.example.ticket.infrastructure.redis.pubsub.SeatStatusListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 열(row)별 빈 좌석 구간 인덱스 (연석 배정용)
+ *
+ * 구역/열마다 열 내 위치를 비트로 두고 (1 = AVAILABLE), 연속된 1의 구간(run)을 nextSetBit/nextClearBit로 찾습니다.
+ * 배정은 앞 열부터, 같은 열에서는 가운데에 가장 가까운 구간을 고릅니다.
+ * 고른 좌석은 같은 노드의 다른 요청이 다시 고르지 않도록 즉시 비트를 끄고, DB 선점에 실패하면 DB 기준으로 되돌립니다.
+ *
+ * 갱신: seat-status Pub/Sub (SeatStatusListener), 배치 정보는 공연별로 처음 요청될 때(예정 공연은 기동 시) DB에서 적재하고
+ * 이후 주기적으로(reservation.best-available.reload-ms) DB 기준으로 다시 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatRowIndex implements SeatStatusListener {
+
+    private final SeatRepository seatRepository;
+    private final PerformanceService performanceService;
+
+    // performanceId → 공연 배치 (다시 적재하면 통째로 교체)
+    private final Map<Long, Layout> layouts = new ConcurrentHashMap<>();
+    // seatId → performanceId (Pub/Sub 갱신 시 배치 찾기용, 교체 시 사라진 좌석은 제거)
+    private final Map<Long, Long> performanceBySeat = new ConcurrentHashMap<>();
+
+    private record Position(Row row, int col) {
+    }
+
+    private static class Row {
+        private final String section;
+        private final int number;
+        private final Map<Integer, Long> seatIdByCol = new HashMap<>();
+        private final BitSet free = new BitSet();
+        private int width;
+
+        Row(String section, int number) {
+            this.section = section;
+            this.number = number;
+        }
+    }
+
+    /**
+     * 공연 하나의 좌석 배치 (section → (row → Row), 열 순서 유지를 위해 TreeMap)
+     *
+     * 선점/상태 갱신은 읽기 락, 교체는 쓰기 락으로 감싸 교체 후 이전 배치에 쓰는 일이 없게 합니다.
+     * 다시 적재하는 동안의 변경은 changedDuringReload에 남겨 DB에서 읽은 새 배치에 덮어씁니다.
+     */
+    private static class Layout {
+        private final Map<String, TreeMap<Integer, Row>> sections = new TreeMap<>();
+        private final Map<Long, Position> positions = new HashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private boolean replaced;
+        private Map<Long, Boolean> changedDuringReload;
+
+        // 읽기 락을 잡은 상태에서 호출
+        void setFree(Long seatId, boolean free) {
+            Position position = positions.get(seatId);
+            if (position == null) {
+                return;
+            }
+            synchronized (position.row()) {
+                position.row().free.set(position.col(), free);
+            }
+            recordChange(seatId, free);
+        }
+
+        void recordChange(Long seatId, boolean free) {
+            if (changedDuringReload != null) {
+                changedDuringReload.put(seatId, free);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        performanceService.upcomingIds().forEach(this::reload);
+    }
+
+    /**
+     * 적재된 공연들을 DB 기준으로 다시 적재 (놓친 Pub/Sub 메시지나 되돌리지 못한 선점 표시 보정)
+     */
+    @Scheduled(fixedDelayString = "${reservation.best-available.reload-ms:60000}",
+            initialDelayString = "${reservation.best-available.reload-ms:60000}")
+    public void reloadAll() {
+        layouts.keySet().forEach(this::reload);
+    }
+
+    /**
+     * 공연의 좌석 배치와 상태를 DB에서 다시 적재 (좌석 추가/가져오기 후 호출)
+     *
+     * 배치와 좌석 위치를 공연 단위로 통째로 교체하므로 삭제되거나 다시 가져온 좌석은 남지 않습니다.
+     * DB를 읽는 동안 선점되거나 상태가 바뀐 좌석은 읽은 값 대신 그 변경을 유지합니다.
+     */
+    public synchronized void reload(Long performanceId) {
+        Layout current = layouts.get(performanceId);
+        if (current != null) {
+            current.lock.writeLock().lock();
+            try {
+                current.changedDuringReload = new ConcurrentHashMap<>();
+            } finally {
+                current.lock.writeLock().unlock();
+            }
+        }
+
+        Layout next = new Layout();
+        for (Seat seat : seatRepository.findAllByPerformanceId(performanceId)) {
+            if (!seat.hasLayout()) {
+                continue;
+            }
+            Row row = next.sections.computeIfAbsent(seat.getSection(), s -> new TreeMap<>())
+                    .computeIfAbsent(seat.getSeatRow(), r -> new Row(seat.getSection(), r));
+            row.seatIdByCol.put(seat.getSeatCol(), seat.getId());
+            row.width = Math.max(row.width, seat.getSeatCol());
+            row.free.set(seat.getSeatCol(), seat.getStatus() == SeatStatus.AVAILABLE);
+            next.positions.put(seat.getId(), new Position(row, seat.getSeatCol()));
+        }
+
+        if (current == null) {
+            layouts.put(performanceId, next);
+            next.positions.keySet().forEach(seatId -> performanceBySeat.put(seatId, performanceId));
+        } else {
+            current.lock.writeLock().lock();
+            try {
+                current.changedDuringReload.forEach(next::setFree);
+                current.replaced = true;
+                layouts.put(performanceId, next);
+                current.positions.keySet().forEach(seatId -> performanceBySeat.remove(seatId, performanceId));
+                next.positions.keySet().forEach(seatId -> performanceBySeat.put(seatId, performanceId));
+            } finally {
+                current.lock.writeLock().unlock();
+            }
+        }
+        log.info("연석 배정 인덱스 적재 완료: 공연 {}, 구역 {}개, 좌석 {}석",
+                performanceId, next.sections.size(), next.positions.size());
+    }
+
+    /**
+     * 빈 연석 count개를 골라 인덱스에서 선점 표시 후 seatId 목록 반환 (열 내 위치 순)
+     *
+     * @param section null이면 공연의 모든 구역 대상
+     * @return 조건에 맞는 구간이 없으면 빈 목록
+     */
+    public List<Long> take(Long performanceId, String section, int count) {
+        if (!layouts.containsKey(performanceId)) {
+            reload(performanceId);
+        }
+        List<Long> seatIds = withLayout(performanceId, layout -> {
+            Collection<TreeMap<Integer, Row>> candidates = section == null
+                    ? layout.sections.values()
+                    : List.of(layout.sections.getOrDefault(section, new TreeMap<>()));
+            for (TreeMap<Integer, Row> rows : candidates) {
+                for (Row row : rows.values()) {
+                    List<Long> taken = takeInRow(layout, row, count);
+                    if (!taken.isEmpty()) {
+                        return taken;
+                    }
+                }
+            }
+            return List.of();
+        });
+        return seatIds != null ? seatIds : List.of();
+    }
+
+    /**
+     * DB 선점에 실패한 좌석을 DB 상태 기준으로 되돌림
+     */
+    public void restore(Collection<Long> seatIds) {
+        for (Seat seat : seatRepository.findAllById(seatIds)) {
+            setFree(seat.getId(), seat.getStatus() == SeatStatus.AVAILABLE);
+        }
+    }
+
+    @Override
+    public void onSeatStatusChanged(Long seatId, String status) {
+        setFree(seatId, SeatStatus.AVAILABLE.name().equals(status));
+    }
+
+    private void setFree(Long seatId, boolean free) {
+        Long performanceId = performanceBySeat.get(seatId);
+        if (performanceId != null) {
+            withLayout(performanceId, layout -> {
+                layout.setFree(seatId, free);
+                return null;
+            });
+        }
+    }
+
+    // 공연의 현재 배치에 읽기 락을 잡고 실행 (그사이 교체되었으면 새 배치로 다시 실행, 적재 전이면 null)
+    private <T> T withLayout(Long performanceId, Function<Layout, T> action) {
+        while (true) {
+            Layout layout = layouts.get(performanceId);
+            if (layout == null) {
+                return null;
+            }
+            layout.lock.readLock().lock();
+            try {
+                if (!layout.replaced) {
+                    return action.apply(layout);
+                }
+            } finally {
+                layout.lock.readLock().unlock();
+            }
+        }
+    }
+
+    // 열 안에서 길이 count 이상인 빈 구간 중 가운데에 가장 가까운 자리를 골라 비트를 끔
+    private List<Long> takeInRow(Layout layout, Row row, int count) {
+        synchronized (row) {
+            double center = (row.width + 1) / 2.0;
+            int bestStart = -1;
+            double bestDistance = Double.MAX_VALUE;
+
+            int runStart = row.free.nextSetBit(1);
+            while (runStart >= 0) {
+                int runEnd = row.free.nextClearBit(runStart); // exclusive
+                if (runEnd - runStart >= count) {
+                    // 구간 안에서 블록 중심이 열 중심에 가장 가깝게 오도록 시작 위치를 맞춤
+                    int ideal = (int) Math.round(center - (count - 1) / 2.0);
+                    int start = Math.max(runStart, Math.min(ideal, runEnd - count));
+                    double distance = Math.abs(start + (count - 1) / 2.0 - center);
+                    if (distance < bestDistance) {
+                        bestDistance = distance;
+                        bestStart = start;
+                    }
+                }
+                runStart = row.free.nextSetBit(runEnd);
+            }
+
+            if (bestStart < 0) {
+                return List.of();
+            }
+
+            List<Long> seatIds = new ArrayList<>(count);
+            for (int col = bestStart; col < bestStart + count; col++) {
+                seatIds.add(row.seatIdByCol.get(col));
+            }
+            row.free.clear(bestStart, bestStart + count);
+            seatIds.forEach(seatId -> layout.recordChange(seatId, false));
+            log.debug("연석 후보: {}구역 {}열 {}~{}번", row.section, row.number, bestStart, bestStart + count - 1);
+            return seatIds;
+        }
+    }
+}
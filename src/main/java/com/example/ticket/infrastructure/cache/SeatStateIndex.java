@@ -0,0 +1,157 @@
+package com.example.ticket.infrastructure.cache;
+
+import com.example.ticket.domain.performance.PerformanceService;
+import com.example.ticket.domain.seat.SeatStatus;
+import com.example.ticket.infrastructure.redis.pubsub.SeatStatusListener;
+import com.example.ticket.infrastructure.redis.service.SeatCacheService;
+import com.example.ticket.infrastructure.redis.service.SeatKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 로컬 좌석 상태 비트맵 (부정 판정 전용 fast-path)
+ *
+ * seatId 위치의 비트로 "선점됨(SELECTED)" / "판매됨(CONFIRMED)"만 기록합니다.
+ * 비트가 켜진 좌석은 락/DB를 거치지 않고 바로 거절하고, 비트가 꺼진 좌석은 기존 선점 경로로 넘깁니다.
+ * 따라서 이 비트맵이 틀려도 승자가 잘못 정해지지는 않으며 (DB가 원천), 최악의 경우 잠깐 잘못 거절할 뿐입니다.
+ *
+ * 갱신: seat-status Pub/Sub (즉시) + 예정 공연의 state:seat 키 재동기화 (주기적, 만료된 선점/유실된 메시지 보정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatStateIndex implements SeatStatusListener {
+
+    private final SeatCacheService seatCacheService;
+    private final PerformanceService performanceService;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private BitSet selected = new BitSet();
+    private BitSet confirmed = new BitSet();
+
+    // 재동기화 중 들어온 변경분 (스냅샷 교체 후 다시 적용)
+    private Map<Integer, SeatStatus> changedDuringResync;
+
+    /**
+     * 알려진 선점 불가 상태 조회
+     *
+     * @return SELECTED / CONFIRMED, 선점 가능하거나 알 수 없으면 null
+     */
+    public String knownTakenStatus(Long seatId) {
+        int index = indexOf(seatId);
+        if (index < 0) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            if (confirmed.get(index)) {
+                return SeatStatus.CONFIRMED.name();
+            }
+            if (selected.get(index)) {
+                return SeatStatus.SELECTED.name();
+            }
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onSeatStatusChanged(Long seatId, String status) {
+        int index = indexOf(seatId);
+        if (index < 0) {
+            return;
+        }
+        SeatStatus seatStatus = SeatStatus.valueOf(status);
+
+        lock.writeLock().lock();
+        try {
+            apply(selected, confirmed, index, seatStatus);
+            if (changedDuringResync != null) {
+                changedDuringResync.put(index, seatStatus);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 예정 공연(+ 공연 미지정 좌석)의 state:seat 키 기준으로 비트맵 재구성 (TTL로 만료된 선점은 여기서 해제됨)
+     *
+     * 지난 공연의 좌석은 SCAN 대상에서 빠지므로 재동기화 비용이 누적 판매량이 아닌 판매 중인 공연 규모에 비례합니다.
+     *
+     * 기동 직후 첫 실행이 초기 적재를 겸하며, 실패하면 기존 상태를 유지합니다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.fast-path.resync-ms:10000}")
+    public void resync() {
+        lock.writeLock().lock();
+        try {
+            changedDuringResync = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        BitSet nextSelected = new BitSet();
+        BitSet nextConfirmed = new BitSet();
+        boolean completed = false;
+        try {
+            List<Long> performanceIds = new ArrayList<>(performanceService.upcomingIds());
+            performanceIds.add(SeatKeys.UNASSIGNED);
+            for (Long performanceId : performanceIds) {
+                seatCacheService.forEachSeatStatus(performanceId, (seatId, status) -> {
+                    int index = indexOf(seatId);
+                    if (index >= 0 && isKnownStatus(status)) {
+                        apply(nextSelected, nextConfirmed, index, SeatStatus.valueOf(status));
+                    }
+                });
+            }
+            completed = true;
+        } catch (Exception e) {
+            log.warn("좌석 상태 비트맵 재동기화 실패 (기존 상태 유지): {}", e.getMessage());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (completed) {
+                    changedDuringResync.forEach((index, status) -> apply(nextSelected, nextConfirmed, index, status));
+                    selected = nextSelected;
+                    confirmed = nextConfirmed;
+                }
+                changedDuringResync = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static void apply(BitSet selected, BitSet confirmed, int index, SeatStatus status) {
+        selected.set(index, status == SeatStatus.SELECTED);
+        confirmed.set(index, status == SeatStatus.CONFIRMED);
+    }
+
+    private static boolean isKnownStatus(String status) {
+        for (SeatStatus seatStatus : SeatStatus.values()) {
+            if (seatStatus.name().equals(status)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // int 범위를 벗어난 seatId는 비트맵에서 제외 (항상 기존 경로로 처리)
+    private static int indexOf(Long seatId) {
+        if (seatId == null || seatId < 0 || seatId > Integer.MAX_VALUE) {
+            return -1;
+        }
+        return seatId.intValue();
+    }
+}
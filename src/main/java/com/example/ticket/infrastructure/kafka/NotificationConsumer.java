@@ -29,6 +29,8 @@ public class NotificationConsumer {
             if (event.getEventType() == ReservationEvent.EventType.RESERVATION_SUCCESS) {
                 log.info("🚀 [통과] Enum 타입 비교 성공!");
                 sendEmail(event);
+            } else if (event.getEventType() == ReservationEvent.EventType.PAYMENT_REFUND_REQUIRED) {
+                sendRefundNotice(event);
             }
 
             // 3. 메시지 처리 완료 알림 (Offset Commit)
@@ -40,6 +42,13 @@ public class NotificationConsumer {
         }
     }
 
+    private void sendRefundNotice(ReservationEvent event) {
+        // SMTP 비활성화: 실제 메일 전송 대신 로그로 대체
+        log.info("📧 [이메일 시뮬레이션] 환불 안내");
+        log.info("   내용: {}번 회원님, [{}] 좌석의 선점 시간이 지나 예매가 취소되었습니다. 결제 금액은 환불됩니다.",
+                event.getUserId(), event.getSeatNumber());
+    }
+
     private void sendEmail(ReservationEvent event) {
         // SMTP 비활성화: 실제 메일 전송 대신 로그로 대체
 
@@ -0,0 +1,38 @@
+package com.example.ticket.infrastructure.kafka;
+
+import com.example.ticket.application.AsyncReservationFacade;
+import com.example.ticket.domain.event.ReservationRequestEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 예약 요청 처리 Consumer
+ *
+ * 파티션(= seatId 그룹) 단위로 순서대로 선점을 적용하고, 결과는 요청 상태 저장소 + SSE로 전달합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationRequestConsumer {
+
+    private final AsyncReservationFacade asyncReservationFacade;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "reservation-requests", groupId = "reservation-request-processor",
+            concurrency = "${reservation.async.consumer-concurrency:3}")
+    public void consume(@Payload String message, Acknowledgment acknowledgment) {
+        try {
+            ReservationRequestEvent event = objectMapper.readValue(message, ReservationRequestEvent.class);
+            asyncReservationFacade.process(event);
+        } catch (Exception e) {
+            log.error("❌ 예약 요청 처리 중 에러 발생: {} (message={})", e.getMessage(), message);
+        }
+        // 처리 결과(성공/실패)는 요청 상태로 기록되므로 재처리하지 않고 커밋
+        acknowledgment.acknowledge();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.ticket.infrastructure.kafka;
+
+import com.example.ticket.domain.event.ReservationRequestEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationRequestProducer {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    private static final String TOPIC = "reservation-requests";
+
+    /**
+     * 예약 요청을 Kafka로 비동기 발행
+     *
+     * 같은 좌석 요청은 같은 파티션으로 보내 좌석 단위 처리 순서를 보장합니다.
+     *
+     * @param event 예약 요청
+     * @return 발행 결과 (실패 시 호출 측에서 요청 상태를 FAILED로 기록)
+     */
+    public CompletableFuture<SendResult<String, String>> publish(ReservationRequestEvent event) {
+        String key = String.valueOf(event.getSeatId());
+
+        return kafkaTemplate.send(TOPIC, key, event.toJson())
+                .whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        log.debug("예약 요청 발행 - Partition: {}, Offset: {}, requestId: {}",
+                                result.getRecordMetadata().partition(),
+                                result.getRecordMetadata().offset(),
+                                event.getRequestId());
+                    } else {
+                        log.error("❌ 예약 요청 발행 실패 - requestId: {}, Error: {}", event.getRequestId(), ex.getMessage());
+                    }
+                });
+    }
+}
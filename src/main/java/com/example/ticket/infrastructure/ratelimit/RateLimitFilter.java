@@ -0,0 +1,159 @@
+package com.example.ticket.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기열/예약 API 요청 한도 필터 (JwtAuthenticationFilter 뒤)
+ *
+ * 경로별로 사용자 단위와 IP 단위 토큰 버킷을 적용하고, 한도를 넘으면 컨트롤러(Redis/MySQL)에 닿기 전에 429로 거절합니다.
+ * 사용자는 JWT로 인증된 사용자(이메일)로 구분하므로, 요청 파라미터를 바꿔 다른 사용자의 한도를 쓰거나 소진시킬 수 없습니다.
+ * 인증되지 않은 요청은 IP 한도만 적용합니다 (이후 인증 단계에서 거절됨).
+ * IP는 로드밸런서가 붙인 X-Forwarded-For를 server.forward-headers-strategy로 반영한 클라이언트 주소입니다.
+ *
+ * Redis 요청을 줄이기 위해 사용자 한도는 노드 메모리 버킷만 쓰고(로드밸런서 분산만큼 한도가 늘어남),
+ * IP 한도만 Redis로 클러스터 전체를 확인합니다. 폴링이 가장 잦은 queue-status는 IP 한도도 노드 버킷만 씁니다.
+ *
+ * 한도 형식은 "초당 요청 수/버스트" (예: 1/5)이며 ratelimit.{route}.user / ratelimit.{route}.ip로 지정합니다.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final List<Route> routes;
+
+    // "{route}:{tier}:{dimension}" → 거절 카운터
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(RateLimiter rateLimiter,
+                           MeterRegistry registry,
+                           @Value("${ratelimit.enabled:true}") boolean enabled,
+                           @Value("${ratelimit.queue-enter.user:1/5}") String queueEnterUser,
+                           @Value("${ratelimit.queue-enter.ip:20/50}") String queueEnterIp,
+                           @Value("${ratelimit.queue-status.user:2/5}") String queueStatusUser,
+                           @Value("${ratelimit.queue-status.ip:50/100}") String queueStatusIp,
+                           @Value("${ratelimit.reservation.user:5/10}") String reservationUser,
+                           @Value("${ratelimit.reservation.ip:50/100}") String reservationIp) {
+        this.rateLimiter = rateLimiter;
+        this.registry = registry;
+        this.enabled = enabled;
+        this.routes = List.of(
+                new Route("queue-enter", "POST", "/api/v1/queue/enter",
+                        RateLimiter.Quota.parse(queueEnterUser), RateLimiter.Quota.parse(queueEnterIp), true),
+                new Route("queue-status", "GET", "/api/v1/queue/status",
+                        RateLimiter.Quota.parse(queueStatusUser), RateLimiter.Quota.parse(queueStatusIp), false),
+                new Route("reservation", "POST", "/api/v1/reservations/**",
+                        RateLimiter.Quota.parse(reservationUser), RateLimiter.Quota.parse(reservationIp), true)
+        );
+    }
+
+    /**
+     * 한도를 적용할 경로 (method + Ant 패턴, sharedIp면 IP 한도를 Redis로 클러스터 전체 확인)
+     */
+    private record Route(String name, String method, String pattern,
+                         RateLimiter.Quota userQuota, RateLimiter.Quota ipQuota, boolean sharedIp) {
+
+        boolean matches(HttpServletRequest request, String path) {
+            return method.equals(request.getMethod()) && PATH_MATCHER.match(pattern, path);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || routeOf(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Route route = routeOf(request);
+        if (route != null) {
+            String user = userKey();
+            if (user != null && reject(route, "user", user, route.userQuota(), false, response)) {
+                return;
+            }
+            if (reject(route, "ip", request.getRemoteAddr(), route.ipQuota(), route.sharedIp(), response)) {
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Route routeOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Route route : routes) {
+            if (route.matches(request, path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private boolean reject(Route route, String dimension, String id, RateLimiter.Quota quota, boolean shared,
+                           HttpServletResponse response) throws IOException {
+        String bucketKey = route.name() + ":" + dimension + ":" + id;
+        RateLimiter.Tier rejectedBy = shared
+                ? rateLimiter.tryAcquire(bucketKey, quota)
+                : (rateLimiter.tryAcquireLocal(bucketKey, quota) ? null : RateLimiter.Tier.LOCAL);
+        if (rejectedBy == null) {
+            return false;
+        }
+
+        rejectedCounter(route.name(), rejectedBy, dimension).increment();
+        log.debug("요청 한도 초과: route={}, {}={}, tier={}", route.name(), dimension, id, rejectedBy);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((long) Math.ceil(1 / quota.ratePerSecond())));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        return true;
+    }
+
+    // JWT로 인증된 사용자 (없으면 null)
+    private String userKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private Counter rejectedCounter(String route, RateLimiter.Tier tier, String dimension) {
+        return rejectedCounters.computeIfAbsent(route + ":" + tier + ":" + dimension,
+                key -> Counter.builder("ratelimit.rejected")
+                        .description("Requests rejected by the rate limiter")
+                        .tag("route", route)
+                        .tag("tier", tier.name().toLowerCase())
+                        .tag("dimension", dimension)
+                        .register(registry));
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.ticket.infrastructure.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2단계 토큰 버킷 (노드 메모리 → Redis)
+ *
+ * 1) 노드 메모리 버킷: 같은 한도를 노드 안에서 먼저 적용합니다. 한 노드에서만 봐도 한도를 넘은 클라이언트는
+ *    Redis를 거치지 않고 바로 거절됩니다.
+ * 2) Redis 버킷(Lua): 노드 버킷을 통과한 요청만 클러스터 전체 한도로 확인합니다.
+ *    Redis 장애 시에는 노드 버킷만으로 판단합니다 (fail-open).
+ * 노드 버킷만 쓰는 한도(tryAcquireLocal)는 Redis 요청이 없는 대신 노드 수만큼 한도가 늘어납니다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+    private static final long IDLE_BUCKET_MILLIS = 60_000L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // "{route}:{dimension}:{id}" → 노드 메모리 버킷
+    private final Map<String, LocalBucket> localBuckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 한도 (초당 충전 토큰, 버킷 용량), 형식 "rate/burst" (예: "2/10")
+     */
+    public record Quota(double ratePerSecond, int burst) {
+
+        public Quota {
+            if (ratePerSecond <= 0 || burst < 1) {
+                throw new IllegalArgumentException("요청 한도는 0보다 커야 합니다: " + ratePerSecond + "/" + burst);
+            }
+        }
+
+        public static Quota parse(String spec) {
+            int slash = spec.indexOf('/');
+            if (slash < 0) {
+                throw new IllegalArgumentException("요청 한도 형식은 rate/burst 입니다: " + spec);
+            }
+            return new Quota(Double.parseDouble(spec.substring(0, slash).trim()),
+                    Integer.parseInt(spec.substring(slash + 1).trim()));
+        }
+    }
+
+    public enum Tier {
+        LOCAL, REDIS
+    }
+
+    /**
+     * 토큰 하나 사용 시도
+     *
+     * @return 거절한 단계 (허용이면 null)
+     */
+    public Tier tryAcquire(String bucketKey, Quota quota) {
+        long now = System.currentTimeMillis();
+        if (!acquireLocal(bucketKey, quota, now)) {
+            return Tier.LOCAL;
+        }
+        return acquireShared(bucketKey, quota, now) ? null : Tier.REDIS;
+    }
+
+    /**
+     * 노드 메모리 버킷에서만 토큰 하나 사용 시도 (Redis 확인 없음, 한도는 노드 단위)
+     *
+     * @return 허용이면 true
+     */
+    public boolean tryAcquireLocal(String bucketKey, Quota quota) {
+        return acquireLocal(bucketKey, quota, System.currentTimeMillis());
+    }
+
+    private boolean acquireLocal(String bucketKey, Quota quota, long now) {
+        return localBuckets.computeIfAbsent(bucketKey, key -> new LocalBucket(quota.burst(), now))
+                .tryAcquire(quota, now);
+    }
+
+    /**
+     * 토큰 버킷 스크립트 (충전 후 1개 사용)
+     *
+     * KEYS[1]=버킷 HASH(tokens, ts)
+     * ARGV[1]=현재 시각(ms), ARGV[2]=초당 충전 토큰, ARGV[3]=버킷 용량, ARGV[4]=키 유지 시간(ms)
+     * 반환: 1=허용, 0=거절
+     */
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local capacity = tonumber(ARGV[3])
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * tonumber(ARGV[2]) / 1000)
+
+            local allowed = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return allowed
+            """, Long.class);
+
+    private boolean acquireShared(String bucketKey, Quota quota, long now) {
+        // 버킷이 가득 찰 때까지의 시간만 유지하면 충분 (이후에는 새 버킷과 같음)
+        long ttlMillis = (long) Math.ceil(quota.burst() * 1000 / quota.ratePerSecond()) + 1000;
+        try {
+            Long allowed = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(KEY_PREFIX + bucketKey),
+                    String.valueOf(now), String.valueOf(quota.ratePerSecond()), String.valueOf(quota.burst()),
+                    String.valueOf(ttlMillis));
+            return allowed == null || allowed > 0;
+        } catch (RuntimeException e) {
+            log.debug("Redis 요청 한도 확인 실패, 노드 한도만 적용: key={}, {}", bucketKey, e.getMessage());
+            return true;
+        }
+    }
+
+    // 한동안 쓰이지 않은 노드 버킷 정리 (그 사이 가득 찼으므로 새 버킷과 같음)
+    @Scheduled(fixedDelay = IDLE_BUCKET_MILLIS)
+    public void evictIdleBuckets() {
+        long cutoff = System.currentTimeMillis() - IDLE_BUCKET_MILLIS;
+        localBuckets.values().removeIf(bucket -> bucket.lastUsedAt() < cutoff);
+    }
+
+    /**
+     * 노드 메모리 토큰 버킷
+     */
+    private static final class LocalBucket {
+        private double tokens;
+        private long refilledAt;
+
+        LocalBucket(int burst, long now) {
+            this.tokens = burst;
+            this.refilledAt = now;
+        }
+
+        synchronized boolean tryAcquire(Quota quota, long now) {
+            tokens = Math.min(quota.burst(), tokens + Math.max(0, now - refilledAt) * quota.ratePerSecond() / 1000);
+            refilledAt = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized long lastUsedAt() {
+            return refilledAt;
+        }
+    }
+}
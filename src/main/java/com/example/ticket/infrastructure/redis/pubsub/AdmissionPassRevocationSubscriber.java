@@ -0,0 +1,31 @@
+package com.example.ticket.infrastructure.redis.pubsub;
+
+import com.example.ticket.infrastructure.redis.service.AdmissionPassService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입장 허가증 무효화 수신 ("{performanceId}:{userId}:{무효 기준 시각}") → 이 노드의 검증용 무효 목록에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdmissionPassRevocationSubscriber implements MessageListener {
+
+    private final AdmissionPassService admissionPassService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody());
+        int separator = payload.lastIndexOf(':');
+        try {
+            admissionPassService.onRevoked(payload.substring(0, separator),
+                    Long.parseLong(payload.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("입장 허가증 무효화 메시지 처리 실패: {}", payload);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.ticket.infrastructure.redis.pubsub;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 예약 결과 발행 (요청을 처리한 노드와 SSE 연결을 가진 노드가 다를 수 있으므로 Pub/Sub 경유)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationResultPublisher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    public static final String CHANNEL = "reservation-result";
+
+    public void publish(String resultJson) {
+        redisTemplate.convertAndSend(CHANNEL, resultJson);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.ticket.infrastructure.redis.pubsub;
+
+import com.example.ticket.infrastructure.sse.SseEmitterRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 예약 결과 수신 → 이 노드에 연결된 요청자 SSE로 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationResultSubscriber implements MessageListener {
+
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final ObjectMapper objectMapper;
+
+    public static final String EMITTER_PREFIX = "reservation:";
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody());
+        try {
+            String requestId = objectMapper.readTree(payload).get("requestId").asText();
+            sseEmitterRegistry.sendAndComplete(EMITTER_PREFIX + requestId, "reservation-result", payload);
+        } catch (Exception e) {
+            log.warn("예약 결과 메시지 처리 실패: {}", payload);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.ticket.infrastructure.redis.pubsub;
+
+/**
+ * seat-status 채널의 좌석 상태 변경을 받아 로컬(JVM 내) 상태를 갱신하는 리스너
+ *
+ * SeatStatusSubscriber가 Redis Pub/Sub 수신 스레드에서 호출하므로 구현은 빠르게 반환해야 합니다.
+ */
+public interface SeatStatusListener {
+
+    void onSeatStatusChanged(Long seatId, String status);
+}
@@ -4,6 +4,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Component
 @RequiredArgsConstructor
 public class SeatStatusPublisher {
@@ -18,4 +21,20 @@ public class SeatStatusPublisher {
         );
         redisTemplate.convertAndSend(CHANNEL, message);
     }
+
+    /**
+     * 여러 좌석의 같은 상태 변경을 메시지 하나로 묶어 발행 (선점 만료 등 일괄 처리용)
+     *
+     * @param seatNumberBySeatId seatId → seatNumber
+     */
+    public void publishAll(Map<Long, String> seatNumberBySeatId, String status) {
+        if (seatNumberBySeatId.isEmpty()) {
+            return;
+        }
+        String seats = seatNumberBySeatId.entrySet().stream()
+                .map(e -> String.format("{\"seatId\":%d,\"seatNumber\":\"%s\"}", e.getKey(), e.getValue()))
+                .collect(Collectors.joining(","));
+        String message = String.format("{\"status\":\"%s\",\"seats\":[%s]}", status, seats);
+        redisTemplate.convertAndSend(CHANNEL, message);
+    }
 }
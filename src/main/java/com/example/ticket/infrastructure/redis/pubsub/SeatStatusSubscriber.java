@@ -1,23 +1,62 @@
 package com.example.ticket.infrastructure.redis.pubsub;
 
 import com.example.ticket.infrastructure.sse.SseEmitterRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SeatStatusSubscriber implements MessageListener {
 
     private final SseEmitterRegistry sseEmitterRegistry;
+    private final List<SeatStatusListener> seatStatusListeners;
+    private final ObjectMapper objectMapper;
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
         String payload = new String(message.getBody());
         log.info("Redis Pub/Sub 수신 → SSE 브로드캐스트: {}", payload);
+        notifyListeners(payload);
         sseEmitterRegistry.broadcast(payload);
     }
+
+    // 로컬 좌석 상태 리스너 갱신 (단건 {seatId,status} / 묶음 {status,seats[]} 메시지 모두 처리)
+    private void notifyListeners(String payload) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(payload);
+        } catch (Exception e) {
+            log.warn("좌석 상태 메시지 파싱 실패 (리스너 갱신 생략): {}", payload);
+            return;
+        }
+
+        String status = node.path("status").asText();
+        if (node.has("seats")) {
+            for (JsonNode seat : node.get("seats")) {
+                notifyListeners(seat.path("seatId").asLong(), status);
+            }
+        } else if (node.has("seatId")) {
+            notifyListeners(node.get("seatId").asLong(), status);
+        }
+    }
+
+    // 리스너 하나의 실패가 다른 리스너/SSE 전송을 막지 않도록 개별 처리
+    private void notifyListeners(Long seatId, String status) {
+        for (SeatStatusListener listener : seatStatusListeners) {
+            try {
+                listener.onSeatStatusChanged(seatId, status);
+            } catch (Exception e) {
+                log.warn("좌석 상태 리스너 처리 실패. listener={}, seatId={}: {}",
+                        listener.getClass().getSimpleName(), seatId, e.getMessage());
+            }
+        }
+    }
 }
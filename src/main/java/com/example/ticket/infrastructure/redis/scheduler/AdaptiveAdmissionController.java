@@ -0,0 +1,136 @@
+package com.example.ticket.infrastructure.redis.scheduler;
+
+import com.example.ticket.config.MetricsConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 지연/락 타임아웃/DB 커넥션 대기에 따라 입장 한도를 자동 조절 (AIMD)
+ *
+ * 주기마다 직전 구간의 예약 평균 지연(reservation.duration), 락 타임아웃 증가분(lock.timeout.total),
+ * HikariCP 커넥션 대기 수(hikaricp.connections.pending)를 봅니다.
+ * - 과부하 신호가 하나라도 있으면 초당 입장 인원과 최대 활성 인원을 decrease-factor배로 줄이고 (곱셈 감소),
+ * - 예약이 처리되고 있고 과부하 신호가 없으면 increase-step만큼 늘립니다 (덧셈 증가).
+ * 한도는 [min, max] 범위를 벗어나지 않으며, 조절 결과는 AdmissionLimits(Redis 공유 값)에 반영되어
+ * 모든 노드의 다음 입장 주기부터 적용됩니다.
+ *
+ * 신호는 노드마다 관측하지만 조절 대상은 클러스터에 하나뿐인 공유 한도이고, 증가/감소는 각각 주기당 한 번만
+ * 반영됩니다 (어느 노드든 과부하면 감소가 우선). 따라서 노드 수와 관계없이 한도가 한 번에 한 단계씩 움직입니다.
+ * 자동 조절이 켜져 있으면 /actuator/admission으로 바꾼 최대 활성 인원/입장 속도는 다음 조절의 시작값이 될 뿐이므로,
+ * 값을 고정하려면 {"adaptive": false}로 자동 조절을 끕니다.
+ */
+@Slf4j
+@Component
+public class AdaptiveAdmissionController {
+
+    private static final String HIKARI_PENDING_METRIC = "hikaricp.connections.pending";
+
+    private final AdmissionLimits admissionLimits;
+    private final MetricsConfig metricsConfig;
+    private final MeterRegistry registry;
+
+    private final boolean enabled;
+    private final long intervalMillis;
+    private final double targetLatencyMillis;
+    private final double maxPendingConnections;
+    private final int increaseStep;
+    private final double decreaseFactor;
+    private final int minActiveUsers;
+    private final int maxActiveUsers;
+
+    // 직전 주기의 누적값 (구간 차이 계산용, 스케줄러 스레드에서만 접근)
+    private long lastReservationCount;
+    private double lastReservationMillis;
+    private double lastLockTimeouts;
+
+    public AdaptiveAdmissionController(AdmissionLimits admissionLimits,
+                                       MetricsConfig metricsConfig,
+                                       MeterRegistry registry,
+                                       @Value("${queue.admission.adaptive.enabled:true}") boolean enabled,
+                                       @Value("${queue.admission.adaptive.interval-ms:5000}") long intervalMillis,
+                                       @Value("${queue.admission.adaptive.target-latency-ms:500}") double targetLatencyMillis,
+                                       @Value("${queue.admission.adaptive.max-pending-connections:5}") double maxPendingConnections,
+                                       @Value("${queue.admission.adaptive.increase-step:10}") int increaseStep,
+                                       @Value("${queue.admission.adaptive.decrease-factor:0.7}") double decreaseFactor,
+                                       @Value("${queue.admission.adaptive.min-active-users:20}") int minActiveUsers,
+                                       @Value("${queue.admission.adaptive.max-active-users:2000}") int maxActiveUsers) {
+        this.admissionLimits = admissionLimits;
+        this.metricsConfig = metricsConfig;
+        this.registry = registry;
+        this.enabled = enabled;
+        this.intervalMillis = intervalMillis;
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.maxPendingConnections = maxPendingConnections;
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        this.minActiveUsers = minActiveUsers;
+        this.maxActiveUsers = maxActiveUsers;
+
+        // 현재 입장 한도 게이지 (수동 변경/자동 조절 모두 반영)
+        Gauge.builder("queue.admission.limit", admissionLimits, AdmissionLimits::getMaxActiveUsers)
+                .description("Current maximum number of active (admitted) users")
+                .register(registry);
+        Gauge.builder("queue.admission.rate", admissionLimits, AdmissionLimits::getRatePerSecond)
+                .description("Current queue admission rate per second")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${queue.admission.adaptive.interval-ms:5000}",
+            initialDelayString = "${queue.admission.adaptive.interval-ms:5000}")
+    public void adjust() {
+        Timer reservationTimer = metricsConfig.getReservationTimer();
+        long reservationCount = reservationTimer.count();
+        double reservationMillis = reservationTimer.totalTime(TimeUnit.MILLISECONDS);
+        double lockTimeouts = metricsConfig.getLockTimeoutCounter().count();
+
+        long completed = reservationCount - lastReservationCount;
+        double meanLatencyMillis = completed > 0 ? (reservationMillis - lastReservationMillis) / completed : 0;
+        double newLockTimeouts = lockTimeouts - lastLockTimeouts;
+        double pendingConnections = pendingConnections();
+
+        lastReservationCount = reservationCount;
+        lastReservationMillis = reservationMillis;
+        lastLockTimeouts = lockTimeouts;
+
+        if (!enabled || !admissionLimits.isAdaptive()) {
+            return;
+        }
+
+        boolean overloaded = meanLatencyMillis > targetLatencyMillis
+                || newLockTimeouts > 0
+                || pendingConnections > maxPendingConnections;
+        if (!overloaded && completed == 0) {
+            return; // 처리량 정보가 없으면 유지
+        }
+
+        AdmissionLimits.Adjustment adjustment;
+        try {
+            adjustment = admissionLimits.adjust(overloaded, intervalMillis, increaseStep, decreaseFactor,
+                    minActiveUsers, maxActiveUsers);
+        } catch (RuntimeException e) {
+            log.warn("입장 한도 자동 조절 실패: {}", e.getMessage());
+            return;
+        }
+        if (adjustment == null) {
+            return; // 이번 주기에 다른 노드가 이미 조절함
+        }
+
+        log.info("입장 한도 자동 조절: {} → {}명 (평균 지연 {}ms, 락 타임아웃 +{}, 커넥션 대기 {})",
+                adjustment.from(), adjustment.to(), Math.round(meanLatencyMillis), (long) newLockTimeouts,
+                (long) pendingConnections);
+    }
+
+    // 모든 HikariCP 풀의 커넥션 대기 스레드 수 합계 (지표가 없으면 0)
+    private double pendingConnections() {
+        return registry.find(HIKARI_PENDING_METRIC).gauges().stream()
+                .mapToDouble(Gauge::value)
+                .sum();
+    }
+}
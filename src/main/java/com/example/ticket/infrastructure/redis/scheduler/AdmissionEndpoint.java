@@ -0,0 +1,68 @@
+package com.example.ticket.infrastructure.redis.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 대기열 입장 한도 조회/변경 Actuator 엔드포인트
+ *
+ * GET  /actuator/admission
+ * POST /actuator/admission {"ratePerSecond":300, "burst":30, "maxActiveUsers":400} (생략한 항목은 유지)
+ * POST /actuator/admission {"performanceId":1, "weight":3} (공연 입장 가중치)
+ * POST /actuator/admission {"adaptive":false} (자동 조절 끄기/켜기)
+ *
+ * 자동 조절(AdaptiveAdmissionController)이 켜져 있으면 수동으로 바꾼 maxActiveUsers/ratePerSecond는
+ * 다음 조절 주기(queue.admission.adaptive.interval-ms)의 시작값일 뿐 곧 다시 조절됩니다.
+ * 값을 고정하려면 같은 요청에 "adaptive":false를 함께 보냅니다.
+ *
+ * ADMIN 권한이 필요하며 (SecurityConfig), 변경한 값은 Redis에 저장되어 모든 노드에 적용됩니다.
+ */
+@Component
+@Endpoint(id = "admission")
+@RequiredArgsConstructor
+public class AdmissionEndpoint {
+
+    private final AdmissionLimits admissionLimits;
+
+    @ReadOperation
+    public Map<String, Object> limits() {
+        admissionLimits.refresh();
+        return Map.of(
+                "ratePerSecond", admissionLimits.getRatePerSecond(),
+                "burst", admissionLimits.getBurst(),
+                "maxActiveUsers", admissionLimits.getMaxActiveUsers(),
+                "adaptive", admissionLimits.isAdaptive(),
+                "weights", admissionLimits.getWeights()
+        );
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Integer ratePerSecond,
+                                      @Nullable Integer burst,
+                                      @Nullable Integer maxActiveUsers,
+                                      @Nullable Long performanceId,
+                                      @Nullable Integer weight,
+                                      @Nullable Boolean adaptive) {
+        try {
+            if (adaptive != null) {
+                admissionLimits.updateAdaptive(adaptive);
+            }
+            if (performanceId != null && weight != null) {
+                admissionLimits.updateWeight(performanceId, weight);
+            }
+            if (ratePerSecond != null || burst != null || maxActiveUsers != null) {
+                admissionLimits.update(ratePerSecond, burst, maxActiveUsers);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        return limits();
+    }
+}
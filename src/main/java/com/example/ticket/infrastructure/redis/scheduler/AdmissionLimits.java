@@ -0,0 +1,277 @@
+package com.example.ticket.infrastructure.redis.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대기열 입장 한도 (운영 중 변경 가능, 모든 노드 공유)
+ *
+ * ratePerSecond: 토큰 버킷 충전 속도 (초당 입장 인원), burst: 한 번에 입장 가능한 최대 인원 (버킷 용량),
+ * maxActiveUsers: 동시에 입장 허가를 가진 최대 인원.
+ * 세 값은 서비스 전체 한도이며, QueueScheduler가 대기자가 있는 공연들에 가중치(weight) 비율로 나눠 줍니다.
+ *
+ * 변경한 값은 Redis HASH(ticket:admission:limits)에 저장하고, 각 노드는 입장 주기마다 HASH를 한 번 읽어
+ * 같은 값으로 입장 스크립트를 호출합니다. HASH에 없는 항목은 설정 파일 값(queue.admission.*)을 씁니다.
+ * Redis를 읽지 못하면 마지막으로 읽은 값을 유지합니다.
+ *
+ * 자동 조절(AdaptiveAdmissionController)도 같은 HASH의 값을 조절하며, 조절 시각을 HASH에 함께 두어
+ * 노드가 여러 개여도 방향별로 조절 주기당 한 번만 반영됩니다. adaptive=false로 끄면 수동 값이 유지됩니다.
+ */
+@Slf4j
+@Component
+public class AdmissionLimits {
+
+    public static final int DEFAULT_WEIGHT = 1;
+
+    private static final String LIMITS_KEY = "ticket:admission:limits";
+    private static final String RATE_FIELD = "ratePerSecond";
+    private static final String BURST_FIELD = "burst";
+    private static final String MAX_ACTIVE_FIELD = "maxActiveUsers";
+    private static final String WEIGHT_FIELD_PREFIX = "weight:";
+    private static final String ADAPTIVE_FIELD = "adaptive";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('HGETALL', KEYS[1])", List.class);
+
+    // ARGV = field1, value1, field2, value2, ...
+    private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('HSET', KEYS[1], unpack(ARGV))", Long.class);
+
+    /**
+     * 자동 조절(AIMD) 한 단계 스크립트
+     *
+     * 과부하면 곱셈 감소, 아니면 덧셈 증가하되 각 방향은 주기(ARGV[2])당 한 번만 반영합니다.
+     * 어느 노드든 직전 주기에 과부하로 줄였으면 그 주기 동안은 늘리지 않습니다.
+     * 초당 입장 인원은 최대 활성 인원과 같은 비율로 조절합니다 (버스트는 유지).
+     *
+     * KEYS[1]=한도 HASH
+     * ARGV[1]=현재 시각(ms), ARGV[2]=조절 주기(ms), ARGV[3]=과부하 여부(1/0), ARGV[4]=증가폭, ARGV[5]=감소 비율,
+     * ARGV[6]=최소 활성 인원, ARGV[7]=최대 활성 인원, ARGV[8]=기본 최대 활성 인원, ARGV[9]=기본 초당 입장 인원
+     * 반환: {조절 전, 조절 후 최대 활성 인원} (조절하지 않았으면 빈 배열)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local interval = tonumber(ARGV[2])
+            local state = redis.call('HMGET', KEYS[1], 'adaptive', 'maxActiveUsers', 'ratePerSecond', 'increasedAt', 'decreasedAt')
+            if state[1] == 'false' then
+                return {}
+            end
+            local current = tonumber(state[2]) or tonumber(ARGV[8])
+            local rate = tonumber(state[3]) or tonumber(ARGV[9])
+            local increasedAt = tonumber(state[4]) or 0
+            local decreasedAt = tonumber(state[5]) or 0
+
+            local nextActive
+            if ARGV[3] == '1' then
+                if now - decreasedAt < interval then
+                    return {}
+                end
+                nextActive = math.floor(current * tonumber(ARGV[5]))
+                redis.call('HSET', KEYS[1], 'decreasedAt', ARGV[1])
+            else
+                if now - increasedAt < interval or now - decreasedAt < interval then
+                    return {}
+                end
+                nextActive = current + tonumber(ARGV[4])
+                redis.call('HSET', KEYS[1], 'increasedAt', ARGV[1])
+            end
+            nextActive = math.max(tonumber(ARGV[6]), math.min(tonumber(ARGV[7]), nextActive))
+            if nextActive == current then
+                return {}
+            end
+
+            local nextRate = math.max(1, math.floor(rate * nextActive / current + 0.5))
+            redis.call('HSET', KEYS[1], 'maxActiveUsers', tostring(nextActive), 'ratePerSecond', tostring(nextRate))
+            return {current, nextActive}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int defaultRatePerSecond;
+    private final int defaultBurst;
+    private final int defaultMaxActiveUsers;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Redis에서 마지막으로 읽은 한도
+     *
+     * @param weights performanceId → 입장 가중치 (없으면 DEFAULT_WEIGHT)
+     */
+    private record Snapshot(int ratePerSecond, int burst, int maxActiveUsers, boolean adaptive,
+                            Map<Long, Integer> weights) {
+    }
+
+    /**
+     * 자동 조절 결과 (최대 활성 인원 조절 전/후)
+     */
+    public record Adjustment(int from, int to) {
+    }
+
+    public AdmissionLimits(RedisTemplate<String, String> redisTemplate,
+                           @Value("${queue.admission.rate-per-second:200}") int ratePerSecond,
+                           @Value("${queue.admission.burst:20}") int burst,
+                           @Value("${queue.admission.max-active-users:200}") int maxActiveUsers) {
+        validate(ratePerSecond, burst, maxActiveUsers);
+        this.redisTemplate = redisTemplate;
+        this.defaultRatePerSecond = ratePerSecond;
+        this.defaultBurst = burst;
+        this.defaultMaxActiveUsers = maxActiveUsers;
+        this.snapshot = new Snapshot(ratePerSecond, burst, maxActiveUsers, true, Map.of());
+    }
+
+    /**
+     * Redis의 공유 한도를 다시 읽음 (입장 주기마다 호출)
+     */
+    @SuppressWarnings("unchecked")
+    public void refresh() {
+        List<String> fields;
+        try {
+            fields = redisTemplate.execute(READ_SCRIPT, List.of(LIMITS_KEY));
+        } catch (RuntimeException e) {
+            log.debug("입장 한도 조회 실패, 이전 값 유지: {}", e.getMessage());
+            return;
+        }
+        if (fields == null) {
+            return;
+        }
+
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i + 1 < fields.size(); i += 2) {
+            values.put(fields.get(i), fields.get(i + 1));
+        }
+        Map<Long, Integer> weights = new HashMap<>();
+        values.forEach((field, value) -> {
+            if (field.startsWith(WEIGHT_FIELD_PREFIX)) {
+                weights.put(Long.valueOf(field.substring(WEIGHT_FIELD_PREFIX.length())), Integer.valueOf(value));
+            }
+        });
+        snapshot = new Snapshot(
+                intValue(values, RATE_FIELD, defaultRatePerSecond),
+                intValue(values, BURST_FIELD, defaultBurst),
+                intValue(values, MAX_ACTIVE_FIELD, defaultMaxActiveUsers),
+                !Boolean.FALSE.toString().equals(values.get(ADAPTIVE_FIELD)),
+                Map.copyOf(weights));
+    }
+
+    /**
+     * 한도 변경 (null인 항목은 유지, 모든 노드에 적용)
+     */
+    public synchronized void update(Integer ratePerSecond, Integer burst, Integer maxActiveUsers) {
+        refresh();
+        Snapshot current = snapshot;
+        int nextRate = ratePerSecond != null ? ratePerSecond : current.ratePerSecond();
+        int nextBurst = burst != null ? burst : current.burst();
+        int nextMaxActive = maxActiveUsers != null ? maxActiveUsers : current.maxActiveUsers();
+        validate(nextRate, nextBurst, nextMaxActive);
+
+        List<String> args = new ArrayList<>();
+        if (ratePerSecond != null) {
+            args.add(RATE_FIELD);
+            args.add(String.valueOf(nextRate));
+        }
+        if (burst != null) {
+            args.add(BURST_FIELD);
+            args.add(String.valueOf(nextBurst));
+        }
+        if (maxActiveUsers != null) {
+            args.add(MAX_ACTIVE_FIELD);
+            args.add(String.valueOf(nextMaxActive));
+        }
+        if (args.isEmpty()) {
+            return;
+        }
+        write(args);
+        log.info("대기열 입장 한도: 초당 {}명, 버스트 {}명, 최대 활성 {}명", nextRate, nextBurst, nextMaxActive);
+    }
+
+    /**
+     * 공연 입장 가중치 변경 (대형 공연에 더 많은 몫을 주되, 다른 공연도 가중치만큼은 항상 받음)
+     */
+    public void updateWeight(Long performanceId, int weight) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("입장 가중치는 1 이상이어야 합니다.");
+        }
+        write(List.of(WEIGHT_FIELD_PREFIX + performanceId, String.valueOf(weight)));
+        log.info("공연 {} 입장 가중치: {}", performanceId, weight);
+    }
+
+    /**
+     * 자동 조절 켜기/끄기 (모든 노드에 적용, 끄면 수동으로 정한 한도가 유지됨)
+     */
+    public void updateAdaptive(boolean adaptive) {
+        write(List.of(ADAPTIVE_FIELD, String.valueOf(adaptive)));
+        log.info("입장 한도 자동 조절: {}", adaptive ? "켜짐" : "꺼짐");
+    }
+
+    /**
+     * 자동 조절(AIMD) 한 단계를 공유 한도에 적용
+     *
+     * @param overloaded 이 노드가 관측한 과부하 여부
+     * @return 조절했으면 조절 전/후 값, 자동 조절이 꺼져 있거나 이번 주기에 이미 조절됐으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public Adjustment adjust(boolean overloaded, long intervalMillis, int increaseStep, double decreaseFactor,
+                             int minActiveUsers, int maxActiveUsers) {
+        List<Long> result = redisTemplate.execute(ADJUST_SCRIPT, List.of(LIMITS_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(intervalMillis), overloaded ? "1" : "0",
+                String.valueOf(increaseStep), String.valueOf(decreaseFactor),
+                String.valueOf(minActiveUsers), String.valueOf(maxActiveUsers),
+                String.valueOf(defaultMaxActiveUsers), String.valueOf(defaultRatePerSecond));
+        if (result == null || result.size() < 2) {
+            return null;
+        }
+        refresh();
+        return new Adjustment(result.get(0).intValue(), result.get(1).intValue());
+    }
+
+    public boolean isAdaptive() {
+        return snapshot.adaptive();
+    }
+
+    public int getRatePerSecond() {
+        return snapshot.ratePerSecond();
+    }
+
+    public int getBurst() {
+        return snapshot.burst();
+    }
+
+    public int getMaxActiveUsers() {
+        return snapshot.maxActiveUsers();
+    }
+
+    public int weightOf(Long performanceId) {
+        return snapshot.weights().getOrDefault(performanceId, DEFAULT_WEIGHT);
+    }
+
+    public Map<Long, Integer> getWeights() {
+        return snapshot.weights();
+    }
+
+    private void write(List<String> fieldValues) {
+        redisTemplate.execute(WRITE_SCRIPT, List.of(LIMITS_KEY), fieldValues.toArray());
+        refresh();
+    }
+
+    private static void validate(int ratePerSecond, int burst, int maxActiveUsers) {
+        if (ratePerSecond < 1 || burst < 1 || maxActiveUsers < 1) {
+            throw new IllegalArgumentException("입장 한도는 1 이상이어야 합니다.");
+        }
+    }
+
+    private static int intValue(Map<String, String> values, String field, int defaultValue) {
+        String value = values.get(field);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.ticket.infrastructure.redis.scheduler;
+
+import com.example.ticket.config.MetricsConfig;
+import com.example.ticket.domain.reservation.Reservation;
+import com.example.ticket.domain.reservation.ReservationRepository;
+import com.example.ticket.domain.reservation.ReservationService;
+import com.example.ticket.domain.reservation.ReservationStatus;
+import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.infrastructure.redis.pubsub.SeatStatusPublisher;
+import com.example.ticket.infrastructure.redis.service.HoldDeadlineQueue;
+import com.example.ticket.infrastructure.redis.service.SeatCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 선점 만료 처리
+ *
+ * hold:deadlines ZSET에서 만료 시각이 지난 예약을 묶음으로 꺼내
+ * 예약 취소 + 좌석 해제를 UPDATE 두 번으로 처리하고, 해제된 좌석을 AVAILABLE 메시지 하나로 발행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HoldExpiryScheduler {
+
+    private final HoldDeadlineQueue holdDeadlineQueue;
+    private final ReservationService reservationService;
+    private final ReservationRepository reservationRepository;
+    private final SeatCacheService seatCacheService;
+    private final SeatStatusPublisher seatStatusPublisher;
+    private final MetricsConfig metricsConfig;
+
+    // 연속 실패 시 재시도 간격 상한
+    private static final long MAX_RETRY_DELAY_MILLIS = 60_000L;
+
+    @Value("${reservation.hold-expiry.batch-size:500}")
+    private int batchSize;
+
+    @Value("${reservation.hold-expiry.interval-ms:1000}")
+    private long intervalMillis;
+
+    // 연속 실패 횟수 (스케줄러 스레드에서만 갱신, 재시도 간격 백오프용)
+    private int consecutiveFailures;
+
+    @Scheduled(fixedDelayString = "${reservation.hold-expiry.interval-ms:1000}")
+    public void expireHolds() {
+        long now = System.currentTimeMillis();
+        List<Long> expired;
+        do {
+            expired = holdDeadlineQueue.pollExpired(now, batchSize);
+            if (!expired.isEmpty() && !expireBatch(expired, now)) {
+                return; // DB 장애 등: 같은 항목을 바로 다시 꺼내지 않도록 이번 주기 종료
+            }
+        } while (expired.size() == batchSize);
+    }
+
+    /**
+     * @return 처리에 실패해 항목을 되돌렸으면 false
+     */
+    private boolean expireBatch(List<Long> reservationIds, long now) {
+        List<Seat> released;
+        try {
+            released = reservationService.expireHolds(reservationIds);
+            consecutiveFailures = 0;
+        } catch (Exception e) {
+            // 꺼낸 항목을 재시도 시각(연속 실패마다 2배, 최대 1분)으로 되돌림
+            long retryDelay = Math.min(MAX_RETRY_DELAY_MILLIS, intervalMillis << Math.min(consecutiveFailures, 16));
+            consecutiveFailures++;
+            log.error("선점 만료 처리 실패, {}ms 후 재시도. count={}: {}", retryDelay, reservationIds.size(), e.getMessage());
+            holdDeadlineQueue.registerAll(reservationIds, now + retryDelay);
+            return false;
+        }
+        if (released.isEmpty()) {
+            return true;
+        }
+
+        Map<Long, String> seatNumberBySeatId = new LinkedHashMap<>();
+        released.forEach(seat -> seatNumberBySeatId.put(seat.getId(), seat.getSeatNumber()));
+
+        seatCacheService.deleteSeatStatuses(seatNumberBySeatId.keySet());
+        seatStatusPublisher.publishAll(seatNumberBySeatId, "AVAILABLE");
+        metricsConfig.getHoldExpiredCounter().increment(released.size());
+
+        log.info("⏰ 선점 만료 → 좌석 해제: {}석", released.size());
+        return true;
+    }
+
+    /**
+     * 기동 시 HELD 예약의 만료 시각 복구 (큐 도입 이전 선점, Redis 유실 대비)
+     *
+     * status 인덱스로 HELD 예약만 id 순으로 페이지 조회하며, 이미 등록된 항목은 건드리지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverDeadlines() {
+        long holdMillis = TimeUnit.MINUTES.toMillis(ReservationService.HOLD_MINUTES);
+        long recovered = 0;
+        Long lastId = 0L;
+        List<Reservation> page;
+        do {
+            page = reservationRepository.findTop1000ByStatusAndIdGreaterThanOrderByIdAsc(ReservationStatus.HELD, lastId);
+            for (Reservation reservation : page) {
+                long reservedAt = reservation.getReservedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                holdDeadlineQueue.registerIfAbsent(reservation.getId(), reservedAt + holdMillis);
+                lastId = reservation.getId();
+            }
+            recovered += page.size();
+        } while (page.size() == 1000);
+
+        if (recovered > 0) {
+            log.info("HELD 예약 만료 시각 복구: {}건", recovered);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.ticket.infrastructure.redis.scheduler;
+
+import com.example.ticket.domain.performance.PerformanceService;
+import com.example.ticket.infrastructure.redis.service.WaitingQueueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공연별 대기열 도입 전 단일 대기열(ticket:waiting:queue) 이관
+ *
+ * 배포 시점에 단일 대기열에 남아 있던 대기자는 공연 정보가 없으므로 기본 공연(가장 가까운 공연)의 대기열로
+ * 기존 순서대로 옮깁니다 (대기 번호 도입 전 진입 시각 score 대기자가 먼저, 그다음 대기 번호 score 대기자).
+ * 주기마다 batch-size명씩만 옮겨 입장 락을 오래 잡지 않으며, 단일 대기열이 비면 이 노드는 더 확인하지 않습니다.
+ * 이관 전에 상태를 조회한 대기자는 그 순간 새 대기 번호를 받으므로 이관 시 다시 등록되지 않습니다 (NX).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LegacyQueueDrainer {
+
+    private final WaitingQueueService waitingQueueService;
+    private final PerformanceService performanceService;
+
+    @Value("${queue.legacy-drain.batch-size:500}")
+    private int batchSize;
+
+    private volatile boolean drained;
+
+    @Scheduled(fixedDelayString = "${queue.legacy-drain.interval-ms:1000}")
+    public void drain() {
+        if (drained) {
+            return;
+        }
+        if (!waitingQueueService.hasLegacyQueue()) {
+            drained = true;
+            return;
+        }
+        Long performanceId;
+        try {
+            performanceId = performanceService.resolve(null);
+        } catch (IllegalArgumentException e) {
+            log.warn("기존 대기열 이관 대상 공연 없음: {}", e.getMessage());
+            return;
+        }
+        int moved = waitingQueueService.drainLegacyQueue(performanceId, batchSize);
+        if (moved > 0) {
+            log.info("기존 대기열 이관: {}명 → performanceId={}", moved, performanceId);
+        }
+    }
+}
@@ -1,49 +1,151 @@
 package com.example.ticket.infrastructure.redis.scheduler;
 
 import com.example.ticket.infrastructure.redis.service.WaitingQueueService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-@Component
-@RequiredArgsConstructor
+/**
+ * 공연별 대기열 → Active User 입장 처리
+ *
+ * 1초마다 한 번에 몰아서 입장시키면 입장 직후 예약 요청이 한꺼번에 몰리므로,
+ * 짧은 주기(queue.admission.tick-ms)마다 토큰 버킷이 허용하는 인원만 조금씩 입장시킵니다.
+ * 입장 속도/최대 인원은 주기마다 AdmissionLimits(Redis 공유 값)를 다시 읽으므로 운영 중 변경이 모든 노드에 바로 반영됩니다.
+ *
+ * 입장 속도는 대기자가 있는 공연들에 가중치 비율로 나누고 (가중 라운드 로빈), 공연마다 자기 몫의 토큰 버킷으로
+ * 입장시킵니다. 최대 활성 인원은 서비스 전체 한도에서 모든 공연(대기자가 없는 공연 포함)의 현재 Active User 수를 뺀
+ * 남은 자리만 같은 비율로 나누므로, 대기열이 막 빈 공연이 쥐고 있는 Active User도 전체 한도에 포함됩니다.
+ * 대형 공연의 대기자가 아무리 많아도 다른 공연은 가중치만큼의 몫을 받으며,
+ * 순회 시작 공연을 주기마다 바꿔 같은 공연이 항상 먼저 처리되지 않게 합니다 (나눠 떨어지지 않는 자리도 돌아가며 받음).
+ * 대기자가 없는 공연은 몫을 받지 않고, Active User도 없이 queue.admission.idle-ms 동안 새 등록이 없으면 순회 대상에서 빠집니다.
+ */
 @Slf4j
+@Component
 public class QueueScheduler {
-    private final RedisTemplate<String, String> redisTemplate;
     private final WaitingQueueService waitingQueueService;
-    private static final String QUEUE_KEY = "ticket:waiting:queue";
-    private static final int MAX_ACTIVE_USERS = 200; // 최대 동시 처리 가능 인원
+    private final AdmissionLimits admissionLimits;
+    private final MeterRegistry registry;
+    private final long idleMillis;
+
+    // performanceId → 공연 대기열 지표 (스케줄러 스레드에서 갱신)
+    private final Map<Long, QueueMeters> queueMeters = new ConcurrentHashMap<>();
+    private int turn;
+
+    public QueueScheduler(WaitingQueueService waitingQueueService,
+                          AdmissionLimits admissionLimits,
+                          MeterRegistry registry,
+                          @Value("${queue.admission.idle-ms:600000}") long idleMillis) {
+        this.waitingQueueService = waitingQueueService;
+        this.admissionLimits = admissionLimits;
+        this.registry = registry;
+        this.idleMillis = idleMillis;
+    }
+
+    /**
+     * 공연 하나의 대기열 지표 (대기 인원, 배분된 초당 입장 인원, 입장 인원 누적)
+     */
+    private final class QueueMeters {
+        private volatile long waiting;
+        private volatile int ratePerSecond;
+        private final Counter admitted;
+        private final List<Meter> meters = new ArrayList<>();
+
+        QueueMeters(Long performanceId) {
+            String tag = String.valueOf(performanceId);
+            this.admitted = Counter.builder("queue.admitted.total")
+                    .description("Total users admitted from the waiting queue")
+                    .tag("performanceId", tag)
+                    .register(registry);
+            meters.add(admitted);
+            meters.add(Gauge.builder("queue.waiting.size", this, m -> m.waiting)
+                    .description("Current waiting queue size")
+                    .tag("performanceId", tag)
+                    .register(registry));
+            meters.add(Gauge.builder("queue.admission.allotted.rate", this, m -> m.ratePerSecond)
+                    .description("Admission rate per second allotted to the performance queue")
+                    .tag("performanceId", tag)
+                    .register(registry));
+        }
+    }
 
-    @Scheduled(fixedDelay = 1000) // 1초마다 실행
+    @Scheduled(fixedDelayString = "${queue.admission.tick-ms:100}")
     public void moveWaitingToActive() {
-        // 현재 Active User 수 확인 (개별 키 카운트)
-        Long currentActive = waitingQueueService.getActiveUserCount();
+        admissionLimits.refresh();
 
-        // 빈 자리 계산
-        long availableSlots = MAX_ACTIVE_USERS - currentActive;
-        if (availableSlots <= 0) {
-            return; // 자리 없으면 스킵
+        // 대기자가 있는 공연만 배분 대상 (비어 있는 공연은 유휴 시간이 지나면 순회 대상에서 제외)
+        // Active User는 모든 공연에서 세어 전체 한도의 남은 자리를 계산
+        List<Long> backlogged = new ArrayList<>();
+        Map<Long, Long> activeByPerformance = new HashMap<>();
+        long totalActive = 0;
+        for (Long performanceId : waitingQueueService.activePerformanceIds()) {
+            QueueMeters meters = queueMeters.computeIfAbsent(performanceId, QueueMeters::new);
+            meters.waiting = waitingQueueService.getWaitingCount(performanceId);
+            long active = waitingQueueService.getActiveUserCount(performanceId);
+            activeByPerformance.put(performanceId, active);
+            totalActive += active;
+            if (meters.waiting > 0) {
+                backlogged.add(performanceId);
+            } else {
+                meters.ratePerSecond = 0;
+                if (active == 0 && waitingQueueService.retireIfIdle(performanceId, idleMillis)) {
+                    retire(performanceId);
+                }
+            }
+        }
+        if (backlogged.isEmpty()) {
+            return;
         }
 
-        // 빈 자리만큼만 대기열에서 입장
-        Set<String> waitingUsers = redisTemplate.opsForZSet().range(QUEUE_KEY, 0, availableSlots - 1);
+        int totalWeight = backlogged.stream().mapToInt(admissionLimits::weightOf).sum();
+        Collections.rotate(backlogged, -Math.floorMod(turn++, backlogged.size()));
+
+        // 전체 최대 활성 인원 중 남은 자리 (공연별 몫의 합이 이 값을 넘지 않음)
+        long headroom = Math.max(0, admissionLimits.getMaxActiveUsers() - totalActive);
+        long remaining = headroom;
+
+        for (Long performanceId : backlogged) {
+            double share = (double) admissionLimits.weightOf(performanceId) / totalWeight;
+            int ratePerSecond = Math.max(1, (int) Math.round(admissionLimits.getRatePerSecond() * share));
+            int burst = Math.max(1, (int) Math.round(admissionLimits.getBurst() * share));
+            long allotted = Math.min(remaining, (long) Math.ceil(headroom * share));
+            remaining -= allotted;
 
-        if (waitingUsers != null && !waitingUsers.isEmpty()) {
-            // 각 유저를 개별 키 + TTL로 Active User 등록
-            for (String userIdStr : waitingUsers) {
-                Long userId = Long.parseLong(userIdStr);
-                waitingQueueService.addActiveUser(userId);
+            QueueMeters meters = queueMeters.get(performanceId);
+            meters.ratePerSecond = ratePerSecond;
+            if (allotted == 0) {
+                continue;
             }
 
-            // 대기열에서 제거
-            redisTemplate.opsForZSet().remove(QUEUE_KEY, waitingUsers.toArray(new String[0]));
+            // 만료 정리 + 빈 자리/토큰 계산 + 입장 허가 (공연별 분산 락, 여러 노드에서 실행해도 안전)
+            // 공연의 최대 Active User = 현재 인원 + 이번 주기에 배분받은 남은 자리
+            int maxActiveUsers = (int) (activeByPerformance.get(performanceId) + allotted);
+            List<Long> admitted = waitingQueueService.admit(performanceId, maxActiveUsers, ratePerSecond, burst);
+
+            if (!admitted.isEmpty()) {
+                meters.admitted.increment(admitted.size());
+                log.debug("🚀 대기열 -> 활성유저 전환: 공연 {}, {}명 입장 (초당 {}명, 최대 활성 {}명)",
+                        performanceId, admitted.size(), ratePerSecond, maxActiveUsers);
+            }
+        }
+    }
 
-            log.info("🚀 대기열 -> 활성유저 전환: {}명 입장 완료 (현재 활성: {}/{}명)",
-                    waitingUsers.size(), currentActive + waitingUsers.size(), MAX_ACTIVE_USERS);
+    private void retire(Long performanceId) {
+        QueueMeters meters = queueMeters.remove(performanceId);
+        if (meters != null) {
+            meters.meters.forEach(registry::remove);
         }
+        log.info("유휴 대기열 순회 종료: 공연 {}", performanceId);
     }
-}
\ No newline at end of file
+}
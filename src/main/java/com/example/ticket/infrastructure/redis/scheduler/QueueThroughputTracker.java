@@ -0,0 +1,115 @@
+package com.example.ticket.infrastructure.redis.scheduler;
+
+import com.example.ticket.config.MetricsConfig;
+import com.example.ticket.infrastructure.redis.service.WaitingQueueService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기열 처리 속도 추적 + 예상 대기 시간/다음 조회 간격 계산
+ *
+ * 주기(queue.eta.sample-ms)마다 공연별 입장 커서 증가량으로 초당 입장 인원을, 예약 타이머 건수 증가량으로
+ * 초당 예약 완료 수를 구하고 EWMA(queue.eta.alpha)로 평활합니다.
+ * 입장 커서는 Redis에서 모든 노드가 공유하므로 어느 노드가 입장 처리를 했든 같은 속도가 보이며,
+ * 떠난 대기자도 커서가 지나간 만큼 반영되어 "내 대기 번호 - 커서" 순번이 줄어드는 속도와 같습니다.
+ * 입장이 아직 관측되지 않았으면(판매 시작 직후, 활성 인원이 가득 찬 동안) 예약 완료 속도로 추정합니다.
+ *
+ * 다음 조회 간격은 예상 대기 시간의 일부(queue.poll.fraction)로, 앞쪽일수록 짧고 멀수록 길어집니다.
+ */
+@Slf4j
+@Component
+public class QueueThroughputTracker {
+
+    private final WaitingQueueService waitingQueueService;
+    private final MetricsConfig metricsConfig;
+    private final double alpha;
+    private final double pollFraction;
+    private final long minPollMillis;
+    private final long maxPollMillis;
+
+    // performanceId → 초당 입장 인원 (입장 커서 기준)
+    private final Map<Long, Ewma> admissionRates = new ConcurrentHashMap<>();
+    // 초당 예약 완료 수 (이 노드 기준)
+    private final Ewma completionRate = new Ewma();
+
+    public QueueThroughputTracker(WaitingQueueService waitingQueueService,
+                                  MetricsConfig metricsConfig,
+                                  @Value("${queue.eta.alpha:0.3}") double alpha,
+                                  @Value("${queue.poll.fraction:0.25}") double pollFraction,
+                                  @Value("${queue.poll.min-ms:1000}") long minPollMillis,
+                                  @Value("${queue.poll.max-ms:30000}") long maxPollMillis) {
+        this.waitingQueueService = waitingQueueService;
+        this.metricsConfig = metricsConfig;
+        this.alpha = alpha;
+        this.pollFraction = pollFraction;
+        this.minPollMillis = minPollMillis;
+        this.maxPollMillis = maxPollMillis;
+    }
+
+    /**
+     * @param waitSeconds 예상 대기 시간(초), 처리 속도를 아직 모르면 null
+     * @param nextPollMillis 다음 상태 조회까지 권장 간격
+     */
+    public record Estimate(Long waitSeconds, long nextPollMillis) {
+    }
+
+    /**
+     * 누적값의 구간별 증가 속도(초당)를 EWMA로 평활 (스케줄러 스레드에서 갱신, 조회는 어느 스레드나)
+     */
+    private final class Ewma {
+        private long lastValue = -1;
+        private long lastSampledAt;
+        private volatile double ratePerSecond;
+
+        void sample(long value, long now) {
+            if (lastValue >= 0 && value >= lastValue && now > lastSampledAt) {
+                double windowRate = (value - lastValue) * 1000.0 / (now - lastSampledAt);
+                ratePerSecond = alpha * windowRate + (1 - alpha) * ratePerSecond;
+            }
+            lastValue = value;
+            lastSampledAt = now;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${queue.eta.sample-ms:1000}")
+    public void sample() {
+        long now = System.currentTimeMillis();
+        List<Long> performanceIds = waitingQueueService.activePerformanceIds();
+        for (Long performanceId : performanceIds) {
+            admissionRates.computeIfAbsent(performanceId, id -> new Ewma())
+                    .sample(waitingQueueService.admissionCursor(performanceId), now);
+        }
+        admissionRates.keySet().retainAll(performanceIds);
+        completionRate.sample(metricsConfig.getReservationTimer().count(), now);
+    }
+
+    /**
+     * 공연의 초당 입장 인원 (관측 전이면 0)
+     */
+    public double admissionRate(Long performanceId) {
+        Ewma rate = admissionRates.get(performanceId);
+        return rate != null ? rate.ratePerSecond : 0;
+    }
+
+    /**
+     * 순번 rank인 대기자의 예상 대기 시간과 다음 조회 간격
+     */
+    public Estimate estimate(Long performanceId, long rank) {
+        double rate = admissionRate(performanceId);
+        if (rate < 0.01) {
+            rate = completionRate.ratePerSecond;
+        }
+        if (rate < 0.01 || rank < 1) {
+            return new Estimate(null, minPollMillis);
+        }
+        double waitSeconds = rank / rate;
+        long nextPollMillis = Math.max(minPollMillis, Math.min(maxPollMillis, (long) (waitSeconds * 1000 * pollFraction)));
+        return new Estimate((long) Math.ceil(waitSeconds), nextPollMillis);
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.ticket.infrastructure.redis.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명된 입장 허가증 (예약 경로의 입장 확인을 Redis 왕복 없이 로컬에서 검증)
+ *
+ * 형식: {performanceId}.{userId}.{만료 시각 epoch ms}.{HMAC-SHA256 서명(base64url)}
+ * 입장 허가가 있는 사용자가 READY 응답을 받을 때 공연별 Active User ZSET의 만료 시각으로 발급되며,
+ * 예약 요청은 서명/만료/공연/사용자만 로컬에서 확인합니다 (다른 공연의 허가증으로는 예약할 수 없음).
+ *
+ * 결제 완료/대기열 이탈로 입장 권한을 반납하면 "지금 + TTL" 이전에 만료되는 허가증을 모두 무효로 기록합니다.
+ * 무효 목록은 Redis ZSET(재기동 시 적재)과 Pub/Sub(다른 노드 즉시 반영)으로 공유하고, 검증은 로컬 사본만 봅니다.
+ *
+ * 대기열 SSE 구독 토큰도 같은 키로 서명합니다: q.{performanceId}.{userId}.{만료 시각}.{서명}.
+ * 인증된 대기열 API가 WAITING 응답에 담아 주며, 헤더를 보낼 수 없는 EventSource가 쿼리 파라미터로 전달합니다.
+ * 접두사가 달라 입장 허가증과 서로 바꿔 쓸 수 없습니다.
+ */
+@Slf4j
+@Service
+public class AdmissionPassService {
+
+    public static final String REVOKE_CHANNEL = "admission-pass-revoked";
+    private static final String REVOKED_KEY = "ticket:pass:revoked";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String SUBSCRIBE_TOKEN_PREFIX = "q.";
+
+    private final WaitingQueueService waitingQueueService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SecretKeySpec key;
+    private final long subscribeTokenTtlMillis;
+
+    // Mac은 스레드 안전하지 않으므로 스레드마다 하나씩 재사용
+    private final ThreadLocal<Mac> macs;
+
+    // "{performanceId}:{userId}" → 이 시각 이하에 만료되는 허가증은 무효 (epoch ms)
+    private final Map<String, Long> revokedUntil = new ConcurrentHashMap<>();
+
+    public AdmissionPassService(WaitingQueueService waitingQueueService,
+                                RedisTemplate<String, String> redisTemplate,
+                                @Value("${queue.pass.secret}") String secret,
+                                @Value("${queue.subscribe-token.ttl-ms:60000}") long subscribeTokenTtlMillis) {
+        this.waitingQueueService = waitingQueueService;
+        this.redisTemplate = redisTemplate;
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.subscribeTokenTtlMillis = subscribeTokenTtlMillis;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * 입장 허가증 발급 (입장 허가가 없으면 null)
+     */
+    public String issue(Long performanceId, Long userId) {
+        Long expiresAt = waitingQueueService.activeUntil(performanceId, userId);
+        if (expiresAt == null) {
+            return null;
+        }
+        String payload = performanceId + "." + userId + "." + expiresAt;
+        return payload + "." + sign(payload);
+    }
+
+    /**
+     * 대기열 SSE 구독 토큰 발급 (구독 시작 시에만 확인하므로 짧게 유효)
+     */
+    public String issueSubscribeToken(Long performanceId, Long userId) {
+        String payload = SUBSCRIBE_TOKEN_PREFIX + performanceId + "." + userId + "."
+                + (System.currentTimeMillis() + subscribeTokenTtlMillis);
+        return payload + "." + sign(payload);
+    }
+
+    /**
+     * 대기열 SSE 구독자 (구독 토큰에서 꺼낸 공연/사용자)
+     */
+    public record QueueSubscriber(Long performanceId, Long userId) {
+    }
+
+    /**
+     * 구독 토큰 검증
+     *
+     * @return 서명과 만료가 유효하면 토큰의 공연/사용자, 아니면 null
+     */
+    public QueueSubscriber verifySubscribeToken(String token) {
+        if (token == null || !token.startsWith(SUBSCRIBE_TOKEN_PREFIX)) {
+            return null;
+        }
+        SignedFields fields = SignedFields.parse(token, SUBSCRIBE_TOKEN_PREFIX.length());
+        if (fields == null || fields.expiresAt() <= System.currentTimeMillis() || !fields.signedBy(this, token)) {
+            return null;
+        }
+        return new QueueSubscriber(fields.performanceId(), fields.userId());
+    }
+
+    /**
+     * 입장 확인: 허가증이 있으면 로컬 검증, 없으면 Redis의 Active User 확인
+     */
+    public boolean isAllowed(Long performanceId, Long userId, String pass) {
+        if (pass == null || pass.isBlank()) {
+            return waitingQueueService.isAllowed(performanceId, userId);
+        }
+        return verify(performanceId, userId, pass);
+    }
+
+    /**
+     * 입장 권한 반납 + 이미 발급된 허가증 무효화 (결제 완료/실패, 대기열 이탈 시)
+     */
+    public void revoke(Long performanceId, Long userId) {
+        long until = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(WaitingQueueService.ACTIVE_USER_TTL_MINUTES);
+        String holder = holder(performanceId, userId);
+        waitingQueueService.removeActiveUser(performanceId, userId);
+        redisTemplate.opsForZSet().add(REVOKED_KEY, holder, until);
+        redisTemplate.convertAndSend(REVOKE_CHANNEL, holder + ":" + until);
+        onRevoked(holder, until);
+    }
+
+    /**
+     * 무효화 반영 (이 노드 또는 다른 노드의 revoke, Pub/Sub 수신)
+     *
+     * @param holder "{performanceId}:{userId}"
+     */
+    public void onRevoked(String holder, long until) {
+        revokedUntil.merge(holder, until, Math::max);
+    }
+
+    // 기동 시 아직 유효한 무효화 기록 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevocations() {
+        Set<ZSetOperations.TypedTuple<String>> revoked = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(REVOKED_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        if (revoked == null) {
+            return;
+        }
+        revoked.forEach(tuple -> onRevoked(tuple.getValue(), tuple.getScore().longValue()));
+        log.info("입장 허가증 무효화 기록 적재: {}건", revoked.size());
+    }
+
+    // 기간이 지난 무효화 기록 정리 (그 이전에 만료되는 허가증은 어차피 만료됨)
+    @Scheduled(fixedDelay = 60_000)
+    public void pruneRevocations() {
+        long now = System.currentTimeMillis();
+        revokedUntil.values().removeIf(until -> until < now);
+        redisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, 0, now);
+    }
+
+    private boolean verify(Long performanceId, Long userId, String pass) {
+        SignedFields fields = SignedFields.parse(pass, 0);
+        if (fields == null || fields.performanceId() != performanceId || fields.userId() != userId
+                || fields.expiresAt() <= System.currentTimeMillis()) {
+            return false;
+        }
+        Long revoked = revokedUntil.get(holder(performanceId, userId));
+        if (revoked != null && fields.expiresAt() <= revoked) {
+            return false;
+        }
+        return fields.signedBy(this, pass);
+    }
+
+    /**
+     * 서명된 값의 "{performanceId}.{userId}.{만료 시각}." 부분 (signatureStart = 서명 시작 위치)
+     */
+    private record SignedFields(long performanceId, long userId, long expiresAt, int signatureStart) {
+
+        // from 위치부터 파싱 (형식이 맞지 않으면 null)
+        static SignedFields parse(String value, int from) {
+            int first = value.indexOf('.', from);
+            int second = value.indexOf('.', first + 1);
+            int third = value.indexOf('.', second + 1);
+            if (first <= from || second <= first + 1 || third <= second + 1) {
+                return null;
+            }
+            try {
+                return new SignedFields(Long.parseLong(value, from, first, 10),
+                        Long.parseLong(value, first + 1, second, 10),
+                        Long.parseLong(value, second + 1, third, 10),
+                        third + 1);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        boolean signedBy(AdmissionPassService service, String value) {
+            byte[] expected = service.sign(value.substring(0, signatureStart - 1)).getBytes(StandardCharsets.US_ASCII);
+            byte[] actual = value.substring(signatureStart).getBytes(StandardCharsets.US_ASCII);
+            return MessageDigest.isEqual(expected, actual);
+        }
+    }
+
+    private static String holder(Long performanceId, Long userId) {
+        return performanceId + ":" + userId;
+    }
+
+    private String sign(String payload) {
+        byte[] signature = macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("입장 허가증 서명 키 초기화 실패", e);
+        }
+    }
+}
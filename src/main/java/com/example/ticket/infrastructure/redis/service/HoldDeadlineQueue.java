@@ -0,0 +1,82 @@
+package com.example.ticket.infrastructure.redis.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 선점 만료 시각 큐 (Redis ZSET, member=reservationId, score=만료 시각 epoch ms)
+ *
+ * 만료 처리는 전체 예약 테이블을 훑지 않고 이 큐에서 만료 시각이 지난 항목만 꺼내 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HoldDeadlineQueue {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    public static final String DEADLINE_KEY = "hold:deadlines";
+
+    /**
+     * 만료된 항목 꺼내기 스크립트 (조회 + 삭제를 한 번에 수행해 여러 노드가 같은 항목을 중복 처리하지 않음)
+     *
+     * KEYS[1]=hold:deadlines, ARGV[1]=현재 시각(ms), ARGV[2]=최대 개수
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POLL_EXPIRED_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            if #ids > 0 then
+                redis.call('ZREM', KEYS[1], unpack(ids))
+            end
+            return ids
+            """, List.class);
+
+    // 선점 만료 시각 등록
+    public void register(Long reservationId, long deadlineMillis) {
+        redisTemplate.opsForZSet().add(DEADLINE_KEY, reservationId.toString(), deadlineMillis);
+    }
+
+    // 여러 예약의 만료 시각 일괄 등록 (ZADD 한 번)
+    public void registerAll(Collection<Long> reservationIds, long deadlineMillis) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = reservationIds.stream()
+                .map(id -> ZSetOperations.TypedTuple.of(id.toString(), (double) deadlineMillis))
+                .collect(Collectors.toSet());
+        if (!tuples.isEmpty()) {
+            redisTemplate.opsForZSet().add(DEADLINE_KEY, tuples);
+        }
+    }
+
+    // 이미 등록된 항목은 유지 (기동 시 HELD 예약 복구용)
+    public void registerIfAbsent(Long reservationId, long deadlineMillis) {
+        redisTemplate.opsForZSet().addIfAbsent(DEADLINE_KEY, reservationId.toString(), deadlineMillis);
+    }
+
+    // 확정/취소된 예약 제거
+    public void remove(Long reservationId) {
+        redisTemplate.opsForZSet().remove(DEADLINE_KEY, reservationId.toString());
+    }
+
+    /**
+     * 만료 시각이 지난 reservationId를 최대 limit개 꺼냄 (꺼낸 항목은 큐에서 삭제됨)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> pollExpired(long nowMillis, int limit) {
+        List<String> ids = redisTemplate.execute(
+                POLL_EXPIRED_SCRIPT,
+                List.of(DEADLINE_KEY),
+                String.valueOf(nowMillis),
+                String.valueOf(limit)
+        );
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream().map(Long::valueOf).toList();
+    }
+}
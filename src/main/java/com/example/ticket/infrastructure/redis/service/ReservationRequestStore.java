@@ -0,0 +1,28 @@
+package com.example.ticket.infrastructure.redis.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 예약 요청 상태 저장소 (폴링 조회용, 10분 TTL)
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationRequestStore {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private static final String REQUEST_KEY = "reservation:request:";
+    private static final int REQUEST_TTL_MINUTES = 10;
+
+    public void save(String requestId, String json) {
+        redisTemplate.opsForValue().set(REQUEST_KEY + requestId, json, REQUEST_TTL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    public Optional<String> find(String requestId) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(REQUEST_KEY + requestId));
+    }
+}
@@ -2,10 +2,21 @@ package com.example.ticket.infrastructure.redis.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 @Service
 @RequiredArgsConstructor
@@ -13,11 +24,40 @@ import java.util.concurrent.TimeUnit;
 public class SeatCacheService {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private static final String STATE_KEY = "state:seat:";
+    private final SeatKeys seatKeys;
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    // Lua 선점 성공 시 반환값 (실패 시에는 현재 좌석 상태가 반환됨)
+    public static final String CLAIMED = "OK";
+
+    /**
+     * 좌석 선점 스크립트
+     *
+     * KEYS[1]=state:seat:{공연}:{id}, KEYS[2]=owner:seat:{공연}:{id}, ARGV[1]=userId, ARGV[2]=TTL(초)
+     * 상태가 없거나 AVAILABLE이면 SELECTED + 점유자를 TTL과 함께 기록하고 "OK",
+     * 이미 선점/확정된 좌석이면 현재 상태를 그대로 반환합니다.
+     */
+    private static final RedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local status = redis.call('GET', KEYS[1])
+            if status and status ~= 'AVAILABLE' then
+                return status
+            end
+            redis.call('SET', KEYS[1], 'SELECTED', 'EX', ARGV[2])
+            redis.call('SET', KEYS[2], ARGV[1], 'EX', ARGV[2])
+            return 'OK'
+            """, String.class);
+
+    // 선점 취소 스크립트: 점유자가 일치할 때만 상태/점유자 키를 함께 삭제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1], KEYS[2])
+            end
+            return 0
+            """, Long.class);
 
     // 1. 좌석 상태 조회
     public String getSeatStatus(Long seatId) {
-        String status = redisTemplate.opsForValue().get(STATE_KEY + seatId);
+        String status = redisTemplate.opsForValue().get(seatKeys.state(seatId));
         // 값이 없으면 DB 조회를 최소화하기 위해 "AVAILABLE"로 간주하거나 별도 처리
         return (status != null) ? status : "AVAILABLE";
     }
@@ -25,14 +65,122 @@ public class SeatCacheService {
     // 2. 좌석 상태 업데이트 (선점 시 5분 TTL 등)
     public void updateSeatStatus(Long seatId, String status, long timeoutMinutes) {
         if (timeoutMinutes > 0) {
-            redisTemplate.opsForValue().set(STATE_KEY + seatId, status, timeoutMinutes, TimeUnit.MINUTES);
+            redisTemplate.opsForValue().set(seatKeys.state(seatId), status, timeoutMinutes, TimeUnit.MINUTES);
         } else {
-            redisTemplate.opsForValue().set(STATE_KEY + seatId, status);
+            redisTemplate.opsForValue().set(seatKeys.state(seatId), status);
+        }
+    }
+
+    // 2-1. 여러 좌석 상태 일괄 업데이트 (파이프라인으로 왕복 한 번)
+    public void updateSeatStatuses(Collection<Long> seatIds, String status, long timeoutMinutes) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                ValueOperations<String, String> ops = ((RedisOperations<String, String>) operations).opsForValue();
+                for (Long seatId : seatIds) {
+                    ops.set(seatKeys.state(seatId), status, timeoutMinutes, TimeUnit.MINUTES);
+                }
+                return null;
+            }
+        });
+    }
+
+    // 2-2. 신규 좌석 상태 예열 (TTL 없이 batchSize개씩 파이프라인, 좌석 일괄 등록 직후 호출)
+    public void warmSeatStatuses(List<Long> seatIds, String status, int batchSize) {
+        for (int from = 0; from < seatIds.size(); from += batchSize) {
+            List<Long> chunk = seatIds.subList(from, Math.min(from + batchSize, seatIds.size()));
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    ValueOperations<String, String> ops = ((RedisOperations<String, String>) operations).opsForValue();
+                    for (Long seatId : chunk) {
+                        ops.set(seatKeys.state(seatId), status);
+                    }
+                    return null;
+                }
+            });
         }
     }
 
     // 3. 좌석 상태 삭제 (결제 취소 시 복구용)
     public void deleteSeatStatus(Long seatId) {
-        redisTemplate.delete(STATE_KEY + seatId);
+        redisTemplate.delete(List.of(seatKeys.state(seatId), seatKeys.owner(seatId)));
+    }
+
+    // 3-1. 여러 좌석 상태 일괄 삭제 (DEL 한 번)
+    public void deleteSeatStatuses(Collection<Long> seatIds) {
+        List<String> keys = new ArrayList<>(seatIds.size() * 2);
+        for (Long seatId : seatIds) {
+            keys.add(seatKeys.state(seatId));
+            keys.add(seatKeys.owner(seatId));
+        }
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    /**
+     * 4. 좌석 원자적 선점 (AVAILABLE → SELECTED, 점유자 + TTL)
+     *
+     * 확인과 변경이 한 번의 왕복으로 끝나므로 분산 락 없이도 한 명만 성공합니다.
+     *
+     * @return 성공 시 {@link #CLAIMED}, 실패 시 현재 좌석 상태 (SELECTED / CONFIRMED)
+     */
+    public String tryClaimSeat(Long seatId, Long userId, long holdMinutes) {
+        return redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(seatKeys.state(seatId), seatKeys.owner(seatId)),
+                userId.toString(),
+                String.valueOf(TimeUnit.MINUTES.toSeconds(holdMinutes))
+        );
+    }
+
+    // 5. 선점 되돌리기 (DB 기록 실패 시 보상용, 본인이 선점한 경우에만 삭제)
+    public void releaseClaim(Long seatId, Long userId) {
+        redisTemplate.execute(
+                RELEASE_SCRIPT,
+                List.of(seatKeys.state(seatId), seatKeys.owner(seatId)),
+                userId.toString()
+        );
+    }
+
+    /**
+     * 6. 공연 하나의 좌석 상태 순회 (KEYS 대신 SCAN + MGET 묶음 조회)
+     *
+     * 순회 중 만료/삭제된 키는 건너뜁니다.
+     */
+    public void forEachSeatStatus(Long performanceId, BiConsumer<Long, String> consumer) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(seatKeys.statePattern(performanceId))
+                .count(SCAN_BATCH_SIZE)
+                .build();
+        List<String> keys = new ArrayList<>(SCAN_BATCH_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == SCAN_BATCH_SIZE) {
+                    acceptStatuses(keys, consumer);
+                    keys.clear();
+                }
+            }
+        }
+        if (!keys.isEmpty()) {
+            acceptStatuses(keys, consumer);
+        }
+    }
+
+    private void acceptStatuses(List<String> keys, BiConsumer<Long, String> consumer) {
+        List<String> statuses = redisTemplate.opsForValue().multiGet(keys);
+        if (statuses == null) {
+            return;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            String status = statuses.get(i);
+            if (status != null) {
+                consumer.accept(seatKeys.seatIdOf(keys.get(i)), status);
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+package com.example.ticket.infrastructure.redis.service;
+
+import com.example.ticket.domain.seat.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공연 단위로 나뉜 좌석 Redis 키
+ *
+ * 형식: {종류}:seat:{performanceId}:{seatId} (예: state:seat:{1}:42)
+ * 중괄호 부분은 Redis Cluster 해시 태그라 한 공연의 좌석 키는 같은 슬롯에 모이고,
+ * 공연 하나의 상태만 SCAN 할 수 있습니다.
+ *
+ * 좌석의 공연은 바뀌지 않으므로 seatId → performanceId는 처음 한 번만 DB에서 읽어 보관합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatKeys {
+
+    private final SeatRepository seatRepository;
+
+    // 공연이 지정되지 않은 좌석(공연 도입 이전 데이터, 테스트 좌석)이 쓰는 공연 ID
+    public static final long UNASSIGNED = 0L;
+
+    private static final String STATE = "state:seat:";
+    private static final String OWNER = "owner:seat:";
+    private static final String LOCK = "lock:seat:";
+
+    private final Map<Long, Long> performanceBySeat = new ConcurrentHashMap<>();
+
+    public String state(Long seatId) {
+        return STATE + slice(performanceOf(seatId)) + seatId;
+    }
+
+    public String owner(Long seatId) {
+        return OWNER + slice(performanceOf(seatId)) + seatId;
+    }
+
+    public String lock(Long seatId) {
+        return LOCK + slice(performanceOf(seatId)) + seatId;
+    }
+
+    // 공연 하나의 좌석 상태 키 SCAN 패턴
+    public String statePattern(Long performanceId) {
+        return STATE + slice(performanceId) + "*";
+    }
+
+    // 상태 키에서 seatId 추출
+    public Long seatIdOf(String stateKey) {
+        return Long.valueOf(stateKey.substring(stateKey.lastIndexOf(':') + 1));
+    }
+
+    /**
+     * 좌석의 공연 ID (존재하지 않는 좌석은 보관하지 않고 UNASSIGNED 반환)
+     */
+    public Long performanceOf(Long seatId) {
+        Long cached = performanceBySeat.get(seatId);
+        if (cached != null) {
+            return cached;
+        }
+        return seatRepository.findPerformanceIdById(seatId)
+                .map(performanceId -> {
+                    performanceBySeat.put(seatId, performanceId);
+                    return performanceId;
+                })
+                .orElse(UNASSIGNED);
+    }
+
+    // 좌석 생성/적재 시 공연 ID를 미리 보관 (DB 조회 생략)
+    public void remember(Long seatId, Long performanceId) {
+        if (performanceId != null) {
+            performanceBySeat.put(seatId, performanceId);
+        }
+    }
+
+    private static String slice(Long performanceId) {
+        return "{" + performanceId + "}:";
+    }
+}
@@ -1,55 +1,658 @@
 package com.example.ticket.infrastructure.redis.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
+/**
+ * 대기열 / 입장 허가(Active User) 관리
+ *
+ * Active User는 유저별 키 대신 ZSET 하나에 만료 시각(ms)을 score로 두고 관리합니다.
+ * score가 현재 시각 이후인 멤버만 유효하므로 인원 수는 ZCOUNT 한 번(O(log N))이며,
+ * 만료된 멤버는 입장 처리 때마다 ZREMRANGEBYSCORE로 정리합니다 (KEYS 전체 스캔 없음).
+ *
+ * 대기열 score는 진입 시각 대신 발급 순서대로 증가하는 대기 번호(INCR)이며, 한 번 등록되면 바뀌지 않습니다 (NX).
+ * 입장 처리는 마지막으로 입장한 대기 번호(입장 커서)를 남기므로, 순번 조회는
+ * "내 대기 번호 - 입장 커서"로 추정합니다. 커서와 Active User 수는 노드마다 짧게 캐시해 공유하므로
+ * 폴링이 몰려도 Redis 명령 수는 폴링 수와 무관합니다 (앞사람이 대기열을 떠난 만큼은 추정치가 실제보다 큼).
+ *
+ * 대기열은 userId 해시로 queue.shards개의 ZSET에 나눠 담습니다 (해시 태그가 달라 클러스터에서도 서로 다른 슬롯).
+ * 대기 번호는 전역 시퀀스에서 받으므로 샤드가 달라도 순서 비교가 가능하며, 입장은 각 샤드의 앞부분을
+ * 대기 번호 순으로 병합해 전역 순서대로 꺼냅니다. 샤드 여러 개를 한 스크립트로 묶을 수 없으므로
+ * 입장 처리는 분산 락으로 한 노드씩 수행하고, Active User/토큰 버킷/커서는 같은 해시 태그로 묶어 스크립트로 갱신합니다.
+ * 샤드에서 꺼낸 대기자는 입장 허가가 기록될 때까지 샤드와 같은 슬롯의 입장 처리 중 ZSET에 남겨 두므로,
+ * 두 단계 사이에 실패하거나 노드가 죽어도 대기자가 사라지지 않습니다.
+ *
+ * 대기열, Active User, 토큰 버킷, 대기 번호, 입장 커서는 모두 공연별로 따로 두므로 동시에 판매를 여는 공연끼리
+ * 줄과 입장 한도를 공유하지 않습니다. 공연별 입장 속도/인원 배분은 QueueScheduler가 정합니다.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class WaitingQueueService {
     private final RedisTemplate<String, String> redisTemplate;
-    private static final String QUEUE_KEY = "ticket:waiting:queue";
-    private static final String ACTIVE_KEY_PREFIX = "ticket:active:users:";
-    private static final int ACTIVE_USER_TTL_MINUTES = 5; // 5분 TTL
+    private final RedissonClient redissonClient;
+    private final int shards;
 
-    // 대기열 등록 및 순번 확인
-    public Long registerAndGetRank(Long userId) {
-        String userIdStr = userId.toString();
-        redisTemplate.opsForZSet().add(QUEUE_KEY, userIdStr, (double) System.currentTimeMillis());
-        Long rank = redisTemplate.opsForZSet().rank(QUEUE_KEY, userIdStr);
-        return (rank != null) ? rank + 1 : -1L;
+    private static final String QUEUE_KEY_PREFIX = "ticket:waiting:queue:";
+    private static final String ADMISSION_KEY_PREFIX = "{ticket:admission:";
+    private static final String ADMISSION_LOCK_PREFIX = "ticket:admission:lock:";
+    private static final String TICKET_SEQ_PREFIX = "ticket:waiting:seq:";
+    private static final String QUEUES_KEY = "ticket:waiting:performances";
+    // 공연별 대기열 도입 전 단일 대기열/Active User 키 (LegacyQueueDrainer가 비울 때까지 남아 있음)
+    private static final String LEGACY_QUEUE_KEY = "ticket:waiting:queue";
+    private static final String LEGACY_ACTIVE_KEY = "ticket:active:users";
+    private static final List<String> LEGACY_STATE_KEYS =
+            List.of("ticket:waiting:seq", "ticket:waiting:cursor", "ticket:admission:bucket");
+    // 단일 대기열에서 이 값 이상의 score는 대기 번호 도입 전의 진입 시각(ms), 미만은 대기 번호
+    private static final double LEGACY_MILLIS_SCORE_FLOOR = 1e12;
+    public static final int ACTIVE_USER_TTL_MINUTES = 5; // 5분 TTL
+
+    /**
+     * 입장 가능 인원 계산 스크립트 (만료 정리 + min(빈 자리, 남은 토큰), 토큰은 차감하지 않음)
+     *
+     * KEYS[1]=Active User ZSET, KEYS[2]=토큰 버킷 HASH(tokens, ts)
+     * ARGV[1]=현재 시각(ms), ARGV[2]=최대 Active User 수, ARGV[3]=초당 충전 토큰, ARGV[4]=버킷 용량
+     */
+    private static final RedisScript<Long> SLOTS_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local bucket = redis.call('HMGET', KEYS[2], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or tonumber(ARGV[4])
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(tonumber(ARGV[4]), tokens + math.max(0, now - ts) * tonumber(ARGV[3]) / 1000)
+
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+            local slots = math.min(tonumber(ARGV[2]) - redis.call('ZCARD', KEYS[1]), math.floor(tokens))
+            return math.max(0, slots)
+            """, Long.class);
+
+    /**
+     * 입장 허가 기록 스크립트 (토큰 차감 + Active User 등록 + 입장 커서 전진)
+     *
+     * KEYS[1]=Active User ZSET, KEYS[2]=토큰 버킷, KEYS[3]=입장 커서
+     * ARGV[1]=현재 시각(ms), ARGV[2]=TTL(ms), ARGV[3]=초당 충전 토큰, ARGV[4]=버킷 용량, ARGV[5]=입장한 마지막 대기 번호,
+     * ARGV[6..]=입장한 userId
+     */
+    private static final RedisScript<Long> ACTIVATE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local bucket = redis.call('HMGET', KEYS[2], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or tonumber(ARGV[4])
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(tonumber(ARGV[4]), tokens + math.max(0, now - ts) * tonumber(ARGV[3]) / 1000)
+
+            local expiresAt = now + tonumber(ARGV[2])
+            for i = 6, #ARGV do
+                redis.call('ZADD', KEYS[1], expiresAt, ARGV[i])
+            end
+            tokens = tokens - (#ARGV - 5)
+            redis.call('HSET', KEYS[2], 'tokens', tostring(tokens), 'ts', ARGV[1])
+            redis.call('PEXPIRE', KEYS[2], 60000)
+
+            if #ARGV > 5 and tonumber(ARGV[5]) > tonumber(redis.call('GET', KEYS[3]) or '0') then
+                redis.call('SET', KEYS[3], ARGV[5])
+            end
+            return #ARGV - 5
+            """, Long.class);
+
+    /**
+     * 샤드에서 대기자 꺼내기 스크립트 (꺼낸 대기자를 같은 슬롯의 입장 처리 중 ZSET에 대기 번호와 함께 기록)
+     *
+     * KEYS[1]=대기열 샤드, KEYS[2]=입장 처리 중 ZSET
+     * ARGV[1]=꺼낼 인원
+     * 반환: {userId, 대기 번호, userId, 대기 번호, ...}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_SCRIPT = new DefaultRedisScript<>("""
+            local popped = redis.call('ZPOPMIN', KEYS[1], ARGV[1])
+            for i = 1, #popped, 2 do
+                redis.call('ZADD', KEYS[2], popped[i + 1], popped[i])
+            end
+            return popped
+            """, List.class);
+
+    /**
+     * 입장 처리 중 대기자 되돌리기 스크립트 (기록된 대기 번호로 샤드에 다시 넣고 입장 처리 중 기록 삭제)
+     *
+     * KEYS[1]=대기열 샤드, KEYS[2]=입장 처리 중 ZSET
+     * ARGV[1..]=되돌릴 userId (나머지는 이미 입장한 것으로 보고 버림)
+     */
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+            local restored = 0
+            for i = 1, #ARGV do
+                local ticket = redis.call('ZSCORE', KEYS[2], ARGV[i])
+                if ticket then
+                    restored = restored + redis.call('ZADD', KEYS[1], 'NX', ticket, ARGV[i])
+                end
+            end
+            redis.call('DEL', KEYS[2])
+            return restored
+            """, Long.class);
+
+    /**
+     * 대기 번호 조회/등록 스크립트 (샤드 또는 입장 처리 중 ZSET에 이미 있으면 그 번호, 없으면 새 번호로 등록)
+     *
+     * 입장 처리 중 ZSET은 샤드와 같은 슬롯이므로, 꺼내졌지만 아직 입장 허가가 기록되지 않은 대기자도
+     * 한 번에 확인해 새 번호를 받지 않습니다.
+     * KEYS[1]=대기열 샤드, KEYS[2]=입장 처리 중 ZSET
+     * ARGV[1]=userId, ARGV[2]=새 대기 번호 (없으면 조회만)
+     * 반환: 대기 번호 (조회만 했고 없으면 nil)
+     */
+    private static final RedisScript<String> REGISTER_SCRIPT = new DefaultRedisScript<>("""
+            local ticket = redis.call('ZSCORE', KEYS[1], ARGV[1]) or redis.call('ZSCORE', KEYS[2], ARGV[1])
+            if ticket then
+                return ticket
+            end
+            if ARGV[2] then
+                redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+                return ARGV[2]
+            end
+            return false
+            """, String.class);
+
+    /**
+     * 유휴 대기열 정리 스크립트 (마지막 등록 시각이 기준 이전일 때만 목록에서 제거)
+     *
+     * KEYS[1]=대기열 목록 ZSET, ARGV[1]=performanceId, ARGV[2]=기준 시각(ms)
+     */
+    private static final RedisScript<Long> RETIRE_SCRIPT = new DefaultRedisScript<>("""
+            local lastRegistered = tonumber(redis.call('ZSCORE', KEYS[1], ARGV[1]))
+            if lastRegistered and lastRegistered < tonumber(ARGV[2]) then
+                return redis.call('ZREM', KEYS[1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    public WaitingQueueService(RedisTemplate<String, String> redisTemplate,
+                               RedissonClient redissonClient,
+                               @Value("${queue.shards:8}") int shards) {
+        this.redisTemplate = redisTemplate;
+        this.redissonClient = redissonClient;
+        this.shards = shards;
+    }
+
+    @Value("${queue.status.cache-ms:500}")
+    private long statusCacheMillis;
+
+    // performanceId → 공연 대기열 (키 + 이 노드의 대기 번호/커서 캐시)
+    private final Map<Long, PerformanceQueue> queues = new ConcurrentHashMap<>();
+
+    // 입장 커서와 Active User 수 (fetchedAt 이후 statusCacheMillis 동안 재사용)
+    private record QueueProgress(long cursor, long activeUserCount, long fetchedAt) {
+    }
+
+    /**
+     * 공연 하나의 대기열 키와 노드 로컬 캐시
+     *
+     * 대기열 샤드는 공연/샤드마다 해시 태그가 달라 서로 다른 슬롯에 흩어지고,
+     * Active User/토큰 버킷/커서는 공연별 같은 해시 태그로 묶여 입장 스크립트 한 번으로 갱신됩니다.
+     */
+    private final class PerformanceQueue {
+        private final List<String> queueKeys;
+        private final String activeKey;
+        private final String bucketKey;
+        private final String cursorKey;
+        private final String lockKey;
+        private final String seqKey;
+
+        // userId → 대기 번호 (이 노드에서 등록/조회한 대기자만, 입장 커서를 지나면 정리)
+        private final Map<Long, Long> tickets = new ConcurrentHashMap<>();
+        private volatile QueueProgress progress = new QueueProgress(0, 0, 0);
+
+        PerformanceQueue(Long performanceId) {
+            this.queueKeys = IntStream.range(0, shards)
+                    .mapToObj(i -> QUEUE_KEY_PREFIX + performanceId + ":{" + performanceId + ":" + i + "}")
+                    .toList();
+            this.activeKey = ADMISSION_KEY_PREFIX + performanceId + "}:active";
+            this.bucketKey = ADMISSION_KEY_PREFIX + performanceId + "}:bucket";
+            this.cursorKey = ADMISSION_KEY_PREFIX + performanceId + "}:cursor";
+            this.lockKey = ADMISSION_LOCK_PREFIX + performanceId;
+            this.seqKey = TICKET_SEQ_PREFIX + performanceId;
+        }
+
+        String queueKeyOf(Long userId) {
+            return queueKeys.get(Math.floorMod(Long.hashCode(userId), queueKeys.size()));
+        }
+    }
+
+    private PerformanceQueue queue(Long performanceId) {
+        return queues.computeIfAbsent(performanceId, PerformanceQueue::new);
+    }
+
+    // 대기열 등록 (이미 대기 중이면 순서 유지) 후 순번 확인 — 대기열 진입 시 한 번 호출
+    // 샤드별 "내 번호 이하" 인원의 합 (샤드를 동시에 읽지 않으므로 근사치)
+    public Long registerAndGetRank(Long performanceId, Long userId) {
+        PerformanceQueue queue = queue(performanceId);
+        long issued = register(performanceId, queue, userId);
+        if (issued == 0L) {
+            return 1L; // 그사이 입장 허가를 받음 (다음 조회에서 READY)
+        }
+        String ticket = String.valueOf(issued);
+        List<Object> counts = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                ZSetOperations<String, String> ops = ((RedisOperations<String, String>) operations).opsForZSet();
+                for (String queueKey : queue.queueKeys) {
+                    ops.count(queueKey, Double.NEGATIVE_INFINITY, Double.parseDouble(ticket));
+                }
+                return null;
+            }
+        });
+        long rank = counts.stream().mapToLong(count -> count != null ? (Long) count : 0L).sum();
+        return rank > 0 ? rank : -1L;
+    }
+
+    // 공연 대기 인원 (샤드별 ZCARD 합)
+    public long getWaitingCount(Long performanceId) {
+        PerformanceQueue queue = queue(performanceId);
+        List<Object> sizes = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                ZSetOperations<String, String> ops = ((RedisOperations<String, String>) operations).opsForZSet();
+                queue.queueKeys.forEach(ops::size);
+                return null;
+            }
+        });
+        return sizes.stream().mapToLong(size -> size != null ? (Long) size : 0L).sum();
+    }
+
+    /**
+     * 대기자가 등록된 적 있는 공연 목록 (입장 스케줄러 순회 대상, 유휴 대기열은 retireIfIdle로 제외)
+     */
+    public List<Long> activePerformanceIds() {
+        Set<String> members = redisTemplate.opsForZSet().range(QUEUES_KEY, 0, -1);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 대기자가 없는 대기열을 순회 대상에서 제외 (idleMillis 동안 새 등록이 없었을 때만)
+     *
+     * @return 제외되었으면 true (이후 새 등록이 오면 다시 추가됨)
+     */
+    public boolean retireIfIdle(Long performanceId, long idleMillis) {
+        long cutoff = System.currentTimeMillis() - idleMillis;
+        Long removed = redisTemplate.execute(RETIRE_SCRIPT, List.of(QUEUES_KEY),
+                performanceId.toString(), String.valueOf(cutoff));
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * 대기 순번 조회 (상태 폴링용, 입장 커서 기준 추정)
+     *
+     * 이 노드가 대기 번호를 알고 있으면 Redis를 거치지 않습니다. 모르는 사용자는 한 번만 등록/조회합니다 (NX).
+     */
+    public Long getRank(Long performanceId, Long userId) {
+        return Math.max(1L, ticketOf(performanceId, userId) - admissionCursor(performanceId));
+    }
+
+    // 사용자의 대기 번호 (이 노드가 모르면 한 번만 등록/조회)
+    public long ticketOf(Long performanceId, Long userId) {
+        PerformanceQueue queue = queue(performanceId);
+        Long ticket = queue.tickets.get(userId);
+        return ticket != null ? ticket : register(performanceId, queue, userId);
+    }
+
+    // 마지막으로 입장한 대기 번호 (노드 캐시, 최대 queue.status.cache-ms 지연)
+    public long admissionCursor(Long performanceId) {
+        return progress(queue(performanceId)).cursor();
+    }
+
+    // 대기 번호 발급 또는 기존 번호 조회 (샤드/입장 처리 중 ZSET 조회 스크립트 한 번, 새로 등록할 때만 INCR + 등록 스크립트)
+    // 이미 입장 허가를 받은 사용자는 새 번호를 받지 않고 0(커서 이하, 곧 입장 가능으로 보임)을 반환
+    // 새 등록은 대기열 목록의 마지막 등록 시각도 갱신 (입장 스케줄러가 이 공연을 순회하도록)
+    private long register(Long performanceId, PerformanceQueue queue, Long userId) {
+        String queueKey = queue.queueKeyOf(userId);
+        List<String> keys = List.of(queueKey, inFlightKey(queueKey));
+        String member = userId.toString();
+        String score = redisTemplate.execute(REGISTER_SCRIPT, keys, member);
+        if (score == null) {
+            if (activeUntil(performanceId, userId) != null) {
+                queue.tickets.put(userId, 0L);
+                return 0L;
+            }
+            redisTemplate.opsForZSet().add(QUEUES_KEY, performanceId.toString(), System.currentTimeMillis());
+            Long ticket = redisTemplate.opsForValue().increment(queue.seqKey);
+            // 동시 등록이나 그사이 꺼내진 경우 먼저 들어간 번호 사용
+            score = redisTemplate.execute(REGISTER_SCRIPT, keys, member, String.valueOf(ticket));
+        }
+        long value = score != null ? (long) Double.parseDouble(score) : 0L;
+        queue.tickets.put(userId, value);
+        return value;
+    }
+
+    // 캐시된 입장 커서/Active User 수 (만료되었으면 다시 읽고, 커서를 지난 대기 번호는 정리)
+    private QueueProgress progress(PerformanceQueue queue) {
+        QueueProgress current = queue.progress;
+        long now = System.currentTimeMillis();
+        if (now - current.fetchedAt() < statusCacheMillis) {
+            return current;
+        }
+        String cursor = redisTemplate.opsForValue().get(queue.cursorKey);
+        long cursorValue = cursor != null ? (long) Double.parseDouble(cursor) : 0L;
+        QueueProgress next = new QueueProgress(cursorValue, countActive(queue), now);
+        queue.progress = next;
+        queue.tickets.values().removeIf(ticket -> ticket <= cursorValue);
+        return next;
+    }
+
+    // 입장 허가 여부 확인 (만료 시각이 지나지 않은 멤버인지)
+    public boolean isAllowed(Long performanceId, Long userId) {
+        return activeUntil(performanceId, userId) != null;
     }
 
-    // 입장 허가 여부 확인 (개별 키 존재 여부)
-    public boolean isAllowed(Long userId) {
-        String key = ACTIVE_KEY_PREFIX + userId;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    // 입장 허가 만료 시각 (epoch ms, 입장 허가가 없거나 만료되었으면 null)
+    public Long activeUntil(Long performanceId, Long userId) {
+        Double expiresAt = redisTemplate.opsForZSet().score(queue(performanceId).activeKey, userId.toString());
+        return expiresAt != null && expiresAt > System.currentTimeMillis() ? expiresAt.longValue() : null;
     }
 
-    // Active User로 등록 (TTL 5분)
-    public void addActiveUser(Long userId) {
-        String key = ACTIVE_KEY_PREFIX + userId;
-        redisTemplate.opsForValue().set(key, "activated", ACTIVE_USER_TTL_MINUTES, TimeUnit.MINUTES);
-        log.debug("✅ Active User 추가: userId={}, TTL={}분", userId, ACTIVE_USER_TTL_MINUTES);
+    // Active User로 등록 (만료 시각 = 지금 + 5분)
+    public void addActiveUser(Long performanceId, Long userId) {
+        long expiresAt = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(ACTIVE_USER_TTL_MINUTES);
+        redisTemplate.opsForZSet().add(queue(performanceId).activeKey, userId.toString(), expiresAt);
+        log.debug("✅ Active User 추가: performanceId={}, userId={}, TTL={}분", performanceId, userId, ACTIVE_USER_TTL_MINUTES);
     }
 
     // 입장 권한 반납 (결제 완료/실패 시 호출)
-    public void removeActiveUser(Long userId) {
-        String key = ACTIVE_KEY_PREFIX + userId;
-        redisTemplate.delete(key);
+    public void removeActiveUser(Long performanceId, Long userId) {
+        PerformanceQueue queue = queue(performanceId);
+        queue.tickets.remove(userId);
+        redisTemplate.opsForZSet().remove(queue.activeKey, userId.toString());
         // 대기열에서도 제거 (중복 방지)
-        redisTemplate.opsForZSet().remove(QUEUE_KEY, userId.toString());
-        log.debug("🔴 Active User 제거: userId={}", userId);
+        redisTemplate.opsForZSet().remove(queue.queueKeyOf(userId), userId.toString());
+        log.debug("🔴 Active User 제거: performanceId={}, userId={}", performanceId, userId);
+    }
+
+    // 현재 Active User 수 조회 (만료되지 않은 멤버 수, 아직 정리되지 않은 만료 멤버는 제외)
+    public Long getActiveUserCount(Long performanceId) {
+        return countActive(queue(performanceId));
+    }
+
+    private long countActive(PerformanceQueue queue) {
+        Long count = redisTemplate.opsForZSet().count(queue.activeKey, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        return count != null ? count : 0L;
+    }
+
+    // 상태 폴링용 Active User 수 (노드 캐시, 최대 queue.status.cache-ms 지연)
+    public Long getCachedActiveUserCount(Long performanceId) {
+        return progress(queue(performanceId)).activeUserCount();
+    }
+
+    /**
+     * 공연 대기열 앞에서부터 빈 자리와 토큰이 허용하는 만큼 입장 허가
+     *
+     * 1) 빈 자리/토큰 계산 2) 샤드별 앞부분을 대기 번호 순으로 병합해 샤드별 인원 결정
+     * 3) 샤드별로 꺼낸 대기자를 같은 슬롯의 입장 처리 중 ZSET에 옮겨 둠 (꺼내기와 기록이 한 스크립트)
+     * 4) Active User 등록 + 토큰 차감 + 커서 전진 5) 입장 처리 중 ZSET 삭제.
+     * 4)가 실패하면 꺼낸 대기자를 원래 번호로 되돌리고, 3)~5) 사이에 노드가 죽으면 락을 다음에 잡은 노드가
+     * 남아 있는 입장 처리 중 ZSET을 발견해 아직 입장하지 못한 대기자를 되돌립니다 (대기자 유실 없음).
+     * 다른 노드가 이 공연을 처리 중이면 이번 주기는 건너뜁니다.
+     *
+     * @param maxActiveUsers 이 공연의 최대 Active User 수
+     * @param ratePerSecond 초당 입장 인원 (토큰 충전 속도)
+     * @param burst 한 번에 입장 가능한 최대 인원 (버킷 용량)
+     * @return 입장한 userId 목록 (대기 순서)
+     */
+    public List<Long> admit(Long performanceId, int maxActiveUsers, int ratePerSecond, int burst) {
+        PerformanceQueue queue = queue(performanceId);
+        RLock lock = redissonClient.getLock(queue.lockKey);
+        if (!lock.tryLock()) {
+            return List.of();
+        }
+        try {
+            String now = String.valueOf(System.currentTimeMillis());
+            String rate = String.valueOf(ratePerSecond);
+            String capacity = String.valueOf(burst);
+
+            Long slots = redisTemplate.execute(SLOTS_SCRIPT, List.of(queue.activeKey, queue.bucketKey),
+                    now, String.valueOf(maxActiveUsers), rate, capacity);
+            if (slots == null || slots <= 0) {
+                return List.of();
+            }
+
+            int[] takeByShard = planByTicketOrder(queue, slots.intValue());
+            if (takeByShard == null) {
+                return List.of(); // 중단된 입장 처리를 되돌림, 이번 주기는 건너뜀
+            }
+            List<Popped> popped = popToInFlight(queue, takeByShard);
+            if (popped.isEmpty()) {
+                return List.of();
+            }
+
+            List<String> args = new ArrayList<>(popped.size() + 5);
+            args.add(now);
+            args.add(String.valueOf(TimeUnit.MINUTES.toMillis(ACTIVE_USER_TTL_MINUTES)));
+            args.add(rate);
+            args.add(capacity);
+            args.add(String.valueOf((long) popped.get(popped.size() - 1).ticket()));
+            popped.forEach(entry -> args.add(entry.userId()));
+            try {
+                redisTemplate.execute(ACTIVATE_SCRIPT, List.of(queue.activeKey, queue.bucketKey, queue.cursorKey),
+                        args.toArray());
+            } catch (RuntimeException e) {
+                log.warn("입장 허가 기록 실패, 꺼낸 대기자 {}명을 대기열로 되돌림: performanceId={}", popped.size(), performanceId);
+                restoreInFlight(queue, popped);
+                throw e;
+            }
+            clearInFlight(queue, takeByShard);
+
+            return popped.stream().map(entry -> Long.valueOf(entry.userId())).toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 공연별 대기열 도입 전 단일 대기열이 남아 있는지
+     */
+    public boolean hasLegacyQueue() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_QUEUE_KEY))
+                || Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_ACTIVE_KEY));
+    }
+
+    /**
+     * 단일 대기열의 앞 batchSize명을 공연 대기열로 옮김 (기존 순서대로 이 공연의 새 대기 번호 발급)
+     *
+     * 단일 대기열에는 진입 시각(ms) score와 그 뒤에 도입된 대기 번호 score가 섞여 있어 score 순서가 실제 순서와 다릅니다.
+     * 진입 시각 score 대기자가 먼저 줄을 섰으므로 이들을 진입 시각 순으로 먼저 옮기고, 그다음 대기 번호 순으로 옮깁니다.
+     * 아직 유효한 기존 Active User도 만료 시각 그대로 이 공연의 Active User로 옮깁니다.
+     * 옮긴 뒤 단일 대기열에서 지우므로, 중간에 실패해도 다음 호출이 같은 대기자를 다시 옮깁니다 (ZADD NX라 중복 없음).
+     * 단일 대기열이 비면 남은 이전 키(대기 번호, 커서, 토큰 버킷)를 삭제합니다.
+     *
+     * @return 옮긴 대기자 수 (다른 노드가 처리 중이거나 비었으면 0)
+     */
+    @SuppressWarnings("unchecked")
+    public int drainLegacyQueue(Long performanceId, int batchSize) {
+        PerformanceQueue queue = queue(performanceId);
+        RLock lock = redissonClient.getLock(queue.lockKey);
+        if (!lock.tryLock()) {
+            return 0;
+        }
+        try {
+            moveLegacyActiveUsers(queue);
+
+            Set<String> batch = redisTemplate.opsForZSet()
+                    .rangeByScore(LEGACY_QUEUE_KEY, LEGACY_MILLIS_SCORE_FLOOR, Double.POSITIVE_INFINITY, 0, batchSize);
+            if (batch == null || batch.isEmpty()) {
+                batch = redisTemplate.opsForZSet().range(LEGACY_QUEUE_KEY, 0, batchSize - 1);
+            }
+            if (batch == null || batch.isEmpty()) {
+                redisTemplate.delete(LEGACY_STATE_KEYS);
+                return 0;
+            }
+            List<String> userIds = List.copyOf(batch);
+            Long lastTicket = redisTemplate.opsForValue().increment(queue.seqKey, userIds.size());
+            long firstTicket = lastTicket - userIds.size() + 1;
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    ZSetOperations<String, String> ops = ((RedisOperations<String, String>) operations).opsForZSet();
+                    ops.add(QUEUES_KEY, performanceId.toString(), System.currentTimeMillis());
+                    for (int i = 0; i < userIds.size(); i++) {
+                        String userId = userIds.get(i);
+                        ops.addIfAbsent(queue.queueKeyOf(Long.valueOf(userId)), userId, firstTicket + i);
+                    }
+                    return null;
+                }
+            });
+            redisTemplate.opsForZSet().remove(LEGACY_QUEUE_KEY, userIds.toArray());
+            return userIds.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 만료되지 않은 기존 Active User를 공연 Active User로 이동 (만료 시각 유지)
+    private void moveLegacyActiveUsers(PerformanceQueue queue) {
+        Set<ZSetOperations.TypedTuple<String>> active = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(LEGACY_ACTIVE_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        if (active != null && !active.isEmpty()) {
+            redisTemplate.opsForZSet().add(queue.activeKey, active);
+            log.info("기존 Active User {}명을 공연 Active User로 이동", active.size());
+        }
+        redisTemplate.delete(LEGACY_ACTIVE_KEY);
+    }
+
+    private record ShardHead(double ticket, int shard) {
+    }
+
+    // 입장 처리 중으로 옮긴 대기자 (샤드, userId, 대기 번호)
+    private record Popped(int shard, String userId, double ticket) {
+    }
+
+    /**
+     * 샤드별 앞 count명을 대기 번호 순으로 병합해 전체 앞 count명이 샤드별로 몇 명인지 계산
+     *
+     * 같은 파이프라인에서 샤드별 입장 처리 중 ZSET 크기도 읽습니다. 락을 잡은 상태에서 남아 있는 것은
+     * 중단된 입장 처리의 기록이므로 되돌리고 null을 반환합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private int[] planByTicketOrder(PerformanceQueue queue, int count) {
+        List<String> queueKeys = queue.queueKeys;
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String queueKey : queueKeys) {
+                    ops.opsForZSet().rangeWithScores(queueKey, 0, count - 1);
+                    ops.opsForZSet().size(inFlightKey(queueKey));
+                }
+                return null;
+            }
+        });
+
+        List<Integer> abandoned = new ArrayList<>();
+        PriorityQueue<ShardHead> merged = new PriorityQueue<>(Comparator.comparingDouble(ShardHead::ticket));
+        for (int shard = 0; shard < queueKeys.size(); shard++) {
+            Set<ZSetOperations.TypedTuple<String>> head = (Set<ZSetOperations.TypedTuple<String>>) results.get(shard * 2);
+            Long inFlight = (Long) results.get(shard * 2 + 1);
+            if (inFlight != null && inFlight > 0) {
+                abandoned.add(shard);
+            }
+            if (head != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : head) {
+                    merged.add(new ShardHead(tuple.getScore(), shard));
+                }
+            }
+        }
+        if (!abandoned.isEmpty()) {
+            recoverAbandoned(queue, abandoned);
+            return null;
+        }
+
+        int[] takeByShard = new int[queueKeys.size()];
+        for (int taken = 0; taken < count && !merged.isEmpty(); taken++) {
+            takeByShard[merged.poll().shard()]++;
+        }
+        return takeByShard;
+    }
+
+    // 샤드별로 정해진 인원을 꺼내 입장 처리 중 ZSET으로 옮김 (대기 번호 순으로 정렬해 반환)
+    @SuppressWarnings("unchecked")
+    private List<Popped> popToInFlight(PerformanceQueue queue, int[] takeByShard) {
+        List<Popped> popped = new ArrayList<>();
+        for (int shard = 0; shard < takeByShard.length; shard++) {
+            if (takeByShard[shard] == 0) {
+                continue;
+            }
+            String queueKey = queue.queueKeys.get(shard);
+            List<String> entries = redisTemplate.execute(POP_SCRIPT, List.of(queueKey, inFlightKey(queueKey)),
+                    String.valueOf(takeByShard[shard]));
+            if (entries == null) {
+                continue;
+            }
+            for (int i = 0; i + 1 < entries.size(); i += 2) {
+                popped.add(new Popped(shard, entries.get(i), Double.parseDouble(entries.get(i + 1))));
+            }
+        }
+        popped.sort(Comparator.comparingDouble(Popped::ticket));
+        return popped;
+    }
+
+    // 입장 허가 기록에 실패한 대기자를 원래 대기 번호로 되돌림 (여기서도 실패하면 다음 입장 처리가 복구)
+    private void restoreInFlight(PerformanceQueue queue, List<Popped> popped) {
+        try {
+            Map<Integer, List<String>> usersByShard = new HashMap<>();
+            popped.forEach(entry -> usersByShard.computeIfAbsent(entry.shard(), shard -> new ArrayList<>()).add(entry.userId()));
+            usersByShard.forEach((shard, userIds) -> {
+                String queueKey = queue.queueKeys.get(shard);
+                redisTemplate.execute(RESTORE_SCRIPT, List.of(queueKey, inFlightKey(queueKey)), userIds.toArray());
+            });
+        } catch (RuntimeException e) {
+            log.error("꺼낸 대기자 되돌리기 실패 (다음 입장 처리에서 복구): {}", e.getMessage());
+        }
+    }
+
+    // 중단된 입장 처리(노드 장애 등)의 대기자 중 아직 Active User가 아닌 사람만 대기열로 되돌림
+    private void recoverAbandoned(PerformanceQueue queue, List<Integer> shards) {
+        for (int shard : shards) {
+            String queueKey = queue.queueKeys.get(shard);
+            Set<String> members = redisTemplate.opsForZSet().range(inFlightKey(queueKey), 0, -1);
+            List<String> notAdmitted = members == null ? List.of() : members.stream()
+                    .filter(member -> redisTemplate.opsForZSet().score(queue.activeKey, member) == null)
+                    .toList();
+            Long restored = redisTemplate.execute(RESTORE_SCRIPT, List.of(queueKey, inFlightKey(queueKey)),
+                    notAdmitted.toArray());
+            log.warn("중단된 입장 처리 복구: {} 대기자 {}명 되돌림 (이미 입장 {}명)",
+                    queueKey, restored, (members == null ? 0 : members.size()) - notAdmitted.size());
+        }
+    }
+
+    // 입장 허가 기록이 끝난 샤드의 입장 처리 중 ZSET 삭제
+    private void clearInFlight(PerformanceQueue queue, int[] takeByShard) {
+        List<String> keys = new ArrayList<>();
+        for (int shard = 0; shard < takeByShard.length; shard++) {
+            if (takeByShard[shard] > 0) {
+                keys.add(inFlightKey(queue.queueKeys.get(shard)));
+            }
+        }
+        redisTemplate.delete(keys);
     }
 
-    // 현재 Active User 수 조회 (모니터링용)
-    public Long getActiveUserCount() {
-        Set<String> keys = redisTemplate.keys(ACTIVE_KEY_PREFIX + "*");
-        return keys != null ? (long) keys.size() : 0L;
+    // 샤드와 같은 해시 태그 (같은 슬롯이라 꺼내기와 기록을 한 스크립트로 처리)
+    private static String inFlightKey(String queueKey) {
+        return queueKey + ":inflight";
     }
-}
\ No newline at end of file
+}
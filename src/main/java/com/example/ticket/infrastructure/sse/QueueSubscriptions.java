@@ -0,0 +1,157 @@
+package com.example.ticket.infrastructure.sse;
+
+import com.example.ticket.infrastructure.redis.scheduler.QueueThroughputTracker;
+import com.example.ticket.infrastructure.redis.service.AdmissionPassService;
+import com.example.ticket.infrastructure.redis.service.WaitingQueueService;
+import com.example.ticket.interfaces.dto.QueueStatusResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기열 순번 SSE 구독 (폴링 대체)
+ *
+ * 주기마다 공연별 입장 커서를 한 번씩만 읽고, 구독자마다 "대기 번호 - 커서"로 순번을 계산해 바뀐 경우에만 보냅니다.
+ * 사용자별 ZRANK가 없으므로 대기자는 Redis 요청이 아닌 유휴 연결 하나의 비용만 듭니다.
+ * 커서가 대기 번호를 지나면 입장 허가를 한 번 확인해 READY(입장 허가증 포함)를 보내고 연결을 닫습니다.
+ * 전송은 SseEmitterRegistry의 연결별 전송 큐에 넣기만 하므로 스케줄러 스레드가 느린 클라이언트에 묶이지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueSubscriptions {
+
+    private final WaitingQueueService waitingQueueService;
+    private final AdmissionPassService admissionPassService;
+    private final ObjectMapper objectMapper;
+    private final QueueThroughputTracker queueThroughputTracker;
+    private final SseEmitterRegistry sseEmitterRegistry;
+
+    private static final String POSITION_EVENT = "queue-position";
+    private static final String READY_EVENT = "queue-ready";
+    private static final String CONNECTION_PREFIX = "queue:";
+
+    // performanceId → (userId → 구독), 공연별 사용자당 최신 연결 하나
+    private final Map<Long, Map<Long, Subscription>> subscriptions = new ConcurrentHashMap<>();
+
+    private static final class Subscription {
+        private final Long performanceId;
+        private final String connectionId;
+        private final long ticket;
+        private long lastRank = -1;
+
+        Subscription(Long performanceId, String connectionId, long ticket) {
+            this.performanceId = performanceId;
+            this.connectionId = connectionId;
+            this.ticket = ticket;
+        }
+    }
+
+    /**
+     * 구독 등록 (이미 입장한 사용자는 READY 전송 후 종료, 대기열에 없으면 한 번만 등록)
+     */
+    public void subscribe(Long performanceId, Long userId, SseEmitter emitter) {
+        String connectionId = CONNECTION_PREFIX + UUID.randomUUID();
+        sseEmitterRegistry.addTargetEmitter(connectionId, emitter);
+
+        String admissionPass = admissionPassService.issue(performanceId, userId);
+        if (admissionPass != null) {
+            sendReady(performanceId, userId, admissionPass, connectionId);
+            return;
+        }
+
+        Map<Long, Subscription> performanceSubscriptions =
+                subscriptions.computeIfAbsent(performanceId, id -> new ConcurrentHashMap<>());
+        Subscription subscription = new Subscription(performanceId, connectionId,
+                waitingQueueService.ticketOf(performanceId, userId));
+        Subscription previous = performanceSubscriptions.put(userId, subscription);
+        if (previous != null) {
+            sseEmitterRegistry.complete(previous.connectionId);
+        }
+        Runnable unsubscribe = () -> {
+            performanceSubscriptions.remove(userId, subscription);
+            sseEmitterRegistry.removeTargetEmitter(connectionId);
+        };
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+
+        push(performanceSubscriptions, userId, subscription, waitingQueueService.admissionCursor(performanceId));
+    }
+
+    /**
+     * 구독자 전체에 순번 전송 (커서 조회는 공연별로 주기당 한 번)
+     */
+    @Scheduled(fixedDelayString = "${queue.push.interval-ms:1000}")
+    public void pushPositions() {
+        subscriptions.forEach((performanceId, performanceSubscriptions) -> {
+            if (performanceSubscriptions.isEmpty()) {
+                return;
+            }
+            long cursor = waitingQueueService.admissionCursor(performanceId);
+            performanceSubscriptions.forEach((userId, subscription) ->
+                    push(performanceSubscriptions, userId, subscription, cursor));
+        });
+    }
+
+    private void push(Map<Long, Subscription> performanceSubscriptions, Long userId, Subscription subscription,
+                      long cursor) {
+        if (subscription.ticket <= cursor) {
+            // 커서가 지나감: 입장했거나 대기열을 떠난 사용자
+            performanceSubscriptions.remove(userId, subscription);
+            String admissionPass = admissionPassService.issue(subscription.performanceId, userId);
+            if (admissionPass != null) {
+                sendReady(subscription.performanceId, userId, admissionPass, subscription.connectionId);
+            } else {
+                sseEmitterRegistry.complete(subscription.connectionId);
+            }
+            return;
+        }
+
+        long rank = subscription.ticket - cursor;
+        if (rank == subscription.lastRank) {
+            return;
+        }
+        subscription.lastRank = rank;
+        QueueThroughputTracker.Estimate estimate = queueThroughputTracker.estimate(subscription.performanceId, rank);
+        QueueStatusResponse position = QueueStatusResponse.builder()
+                .performanceId(subscription.performanceId)
+                .userId(userId)
+                .status("WAITING")
+                .rank(rank)
+                .message(String.format("현재 대기 중입니다. 순번: %d번", rank))
+                .estimatedWaitSeconds(estimate.waitSeconds())
+                .build();
+        if (!sseEmitterRegistry.send(subscription.connectionId, POSITION_EVENT, toJson(position))) {
+            log.debug("대기열 SSE 연결 없음, 구독 제거: userId={}", userId);
+            performanceSubscriptions.remove(userId, subscription);
+        }
+    }
+
+    private void sendReady(Long performanceId, Long userId, String admissionPass, String connectionId) {
+        QueueStatusResponse ready = QueueStatusResponse.builder()
+                .performanceId(performanceId)
+                .userId(userId)
+                .status("READY")
+                .message("입장 완료! 예약이 가능합니다.")
+                .admissionPass(admissionPass)
+                .build();
+        sseEmitterRegistry.sendAndComplete(connectionId, READY_EVENT, toJson(ready));
+    }
+
+    private String toJson(QueueStatusResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("대기열 상태 직렬화 실패: " + response.getUserId());
+        }
+    }
+}
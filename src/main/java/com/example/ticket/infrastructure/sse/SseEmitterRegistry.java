@@ -1,37 +1,303 @@
 package com.example.ticket.infrastructure.sse;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * SSE 연결 관리 + 비동기 팬아웃
+ *
+ * 브로드캐스트는 연결마다 크기가 제한된 전송 큐(sse.fanout.queue-capacity)에 메시지를 넣기만 하고 바로 반환하며,
+ * 실제 전송은 공용 writer 스레드 풀(sse.fanout.writer-threads)이 연결 단위로 순서대로 처리합니다.
+ * 연결 하나는 동시에 writer 하나만 맡으므로 메시지 순서가 유지되고, 느린 클라이언트는 자기 큐만 쌓입니다.
+ * 큐가 가득 찬 연결(메시지를 따라오지 못하는 클라이언트)은 끊고, 재접속 시 좌석 맵 전체를 다시 받도록 합니다.
+ * 따라서 Redis 리스너 스레드는 연결 수와 클라이언트 속도에 관계없이 큐 적재 비용만 씁니다.
+ *
+ * 특정 대상에게만 보내는 연결(예약 결과, 대기열 순번)도 같은 전송 큐와 writer를 거치므로,
+ * 대기열 스케줄러 등 호출 스레드는 클라이언트에 직접 쓰지 않습니다.
+ *
+ * 전송 한 건은 소켓 버퍼가 빌 때까지 writer 스레드를 붙잡으므로, 감시 작업이 sse.fanout.write-timeout-ms를 넘긴
+ * 전송을 찾아 연결을 목록에서 빼고 writer 스레드를 인터럽트합니다. 막힌 전송이 예외로 끝나면 연결을 닫고,
+ * writer는 다른 연결로 돌아갑니다 (응답하지 않는 클라이언트 몇 개가 writer 풀 전체를 묶지 못함).
+ */
 @Slf4j
 @Component
 public class SseEmitterRegistry {
 
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private static final String SEAT_UPDATE_EVENT = "seat-update";
+
+    // 좌석 상태 브로드캐스트 대상
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+
+    // 특정 요청/사용자에게만 보내는 대상 (예: reservation:{requestId}, queue:{구독 ID})
+    private final Map<String, Connection> targetConnections = new ConcurrentHashMap<>();
+
+    // 지금 전송 중인 연결 (감시 대상)
+    private final Set<Connection> writing = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService writers;
+    private final int queueCapacity;
+    private final long writeTimeoutMillis;
+    private final Counter overflowDroppedCounter;
+    private final Counter errorDroppedCounter;
+    private final Counter timeoutDroppedCounter;
+
+    public SseEmitterRegistry(MeterRegistry registry,
+                              @Value("${sse.fanout.queue-capacity:256}") int queueCapacity,
+                              @Value("${sse.fanout.writer-threads:8}") int writerThreads,
+                              @Value("${sse.fanout.write-timeout-ms:5000}") long writeTimeoutMillis) {
+        this.queueCapacity = queueCapacity;
+        this.writeTimeoutMillis = writeTimeoutMillis;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(writerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-writer-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // 브로드캐스트 연결 수, 전체 전송 대기 메시지 수
+        Gauge.builder("sse.connections", connections, Map::size)
+                .description("Connected seat-update SSE clients")
+                .register(registry);
+        Gauge.builder("sse.queue.depth", connections,
+                        c -> c.values().stream().mapToInt(connection -> connection.outbound.size()).sum())
+                .description("Seat-update messages waiting in per-client SSE queues")
+                .register(registry);
+
+        // 끊은 연결 수 (큐 초과 = 느린 클라이언트, 전송 실패 = 끊어진 클라이언트, 전송 시간 초과 = 응답 없는 클라이언트)
+        this.overflowDroppedCounter = Counter.builder("sse.dropped.total")
+                .description("SSE clients dropped by the server")
+                .tag("reason", "overflow")
+                .register(registry);
+        this.errorDroppedCounter = Counter.builder("sse.dropped.total")
+                .description("SSE clients dropped by the server")
+                .tag("reason", "error")
+                .register(registry);
+        this.timeoutDroppedCounter = Counter.builder("sse.dropped.total")
+                .description("SSE clients dropped by the server")
+                .tag("reason", "timeout")
+                .register(registry);
+    }
+
+    /**
+     * 전송할 이벤트 (last면 전송 후 연결 종료, name이 null이면 전송 없이 종료)
+     */
+    private record Message(String name, String data, boolean last) {
+    }
+
+    /**
+     * 연결 하나 (전송 큐 + writer 배정 여부, 등록된 연결 목록)
+     */
+    private static final class Connection {
+        private final String id;
+        private final SseEmitter emitter;
+        private final Map<String, Connection> owner;
+        private final BlockingQueue<Message> outbound;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // 진행 중인 전송의 시작 시각과 writer 스레드 (감시 작업과 이 연결 객체로 동기화)
+        private long writeStartedAt;
+        private Thread writer;
+        private volatile boolean timedOut;
+
+        Connection(String id, SseEmitter emitter, Map<String, Connection> owner, int queueCapacity) {
+            this.id = id;
+            this.emitter = emitter;
+            this.owner = owner;
+            this.outbound = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
 
     public void addEmitter(String id, SseEmitter emitter) {
-        emitters.put(id, emitter);
-        log.info("SSE 클라이언트 연결: {} (현재 {}명)", id, emitters.size());
+        connections.put(id, new Connection(id, emitter, connections, queueCapacity));
+        log.debug("SSE 클라이언트 연결: {} (현재 {}명)", id, connections.size());
     }
 
     public void removeEmitter(String id) {
-        emitters.remove(id);
-        log.info("SSE 클라이언트 해제: {} (현재 {}명)", id, emitters.size());
+        connections.remove(id);
+        log.debug("SSE 클라이언트 해제: {} (현재 {}명)", id, connections.size());
     }
 
+    /**
+     * 모든 연결의 전송 큐에 적재 (전송은 writer 스레드에서, 큐가 가득 찬 연결은 끊음)
+     */
     public void broadcast(String data) {
-        emitters.forEach((id, emitter) -> {
+        Message message = new Message(SEAT_UPDATE_EVENT, data, false);
+        connections.values().forEach(connection -> enqueue(connection, message));
+    }
+
+    // 전송 큐에 적재 후 writer 배정 (큐가 가득 찬 연결은 끊음)
+    private boolean enqueue(Connection connection, Message message) {
+        if (!connection.outbound.offer(message)) {
+            drop(connection, overflowDroppedCounter);
+            log.warn("SSE 전송 큐 초과(느린 클라이언트), 연결 종료: {}", connection.id);
+            return false;
+        }
+        scheduleDrain(connection);
+        return true;
+    }
+
+    // 연결에 배정된 writer가 없을 때만 배정 (연결당 동시에 writer 하나)
+    private void scheduleDrain(Connection connection) {
+        if (connection.draining.compareAndSet(false, true)) {
+            writers.execute(() -> drain(connection));
+        }
+    }
+
+    private void drain(Connection connection) {
+        Message message;
+        while ((message = connection.outbound.poll()) != null) {
             try {
-                emitter.send(SseEmitter.event().name("seat-update").data(data));
-            } catch (IOException e) {
-                log.warn("SSE 전송 실패, 연결 제거: {}", id);
-                emitters.remove(id);
+                if (message.name() != null) {
+                    write(connection, message);
+                }
+                if (connection.timedOut) {
+                    // 인터럽트 전에 전송이 끝났어도 이미 목록에서 뺀 연결이므로 닫음
+                    drop(connection, timeoutDroppedCounter);
+                    return;
+                }
+                if (message.last()) {
+                    close(connection);
+                    return;
+                }
+            } catch (IOException | IllegalStateException e) {
+                if (connection.timedOut) {
+                    drop(connection, timeoutDroppedCounter);
+                } else {
+                    log.warn("SSE 전송 실패, 연결 제거: {}", connection.id);
+                    drop(connection, errorDroppedCounter);
+                }
+                return;
             }
-        });
+        }
+        connection.draining.set(false);
+        // 배정 해제 직전에 들어온 메시지가 남아 있으면 다시 배정
+        if (!connection.outbound.isEmpty()) {
+            scheduleDrain(connection);
+        }
+    }
+
+    // 전송 한 건 (진행 중인 동안 감시 대상으로 등록)
+    private void write(Connection connection, Message message) throws IOException {
+        synchronized (connection) {
+            connection.writeStartedAt = System.currentTimeMillis();
+            connection.writer = Thread.currentThread();
+        }
+        writing.add(connection);
+        try {
+            connection.emitter.send(SseEmitter.event().name(message.name()).data(message.data()));
+        } finally {
+            writing.remove(connection);
+            synchronized (connection) {
+                connection.writer = null;
+            }
+            // 전송이 끝난 직후 도착한 감시 작업의 인터럽트가 다음 연결의 전송을 끊지 않도록 정리
+            Thread.interrupted();
+        }
+    }
+
+    /**
+     * 전송 시간 초과 감시: 제한 시간을 넘긴 연결은 더 이상 메시지를 받지 않게 빼고 writer를 인터럽트
+     *
+     * 막힌 전송은 emitter 잠금을 쥐고 있으므로 여기서 직접 닫지 않고, 인터럽트로 전송이 실패하면 writer가 닫습니다.
+     */
+    @Scheduled(fixedDelayString = "${sse.fanout.write-timeout-check-ms:1000}")
+    public void interruptStalledWrites() {
+        long cutoff = System.currentTimeMillis() - writeTimeoutMillis;
+        for (Connection connection : writing) {
+            synchronized (connection) {
+                if (connection.writer == null || connection.writeStartedAt > cutoff || connection.timedOut) {
+                    continue;
+                }
+                connection.timedOut = true;
+                connection.owner.remove(connection.id, connection);
+                connection.outbound.clear();
+                connection.writer.interrupt();
+            }
+            log.warn("SSE 전송 시간 초과({}ms), 연결 종료: {}", writeTimeoutMillis, connection.id);
+        }
+    }
+
+    private void drop(Connection connection, Counter reason) {
+        if (connection.closed.get()) {
+            return;
+        }
+        reason.increment();
+        connection.outbound.clear();
+        close(connection);
+    }
+
+    // 연결 목록에서 제거 후 종료 (한 번만)
+    private void close(Connection connection) {
+        connection.owner.remove(connection.id, connection);
+        if (!connection.closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            connection.emitter.complete();
+        } catch (RuntimeException e) {
+            log.debug("SSE 연결 종료 실패: {}", connection.id);
+        }
+    }
+
+    public void addTargetEmitter(String id, SseEmitter emitter) {
+        targetConnections.put(id, new Connection(id, emitter, targetConnections, queueCapacity));
+    }
+
+    public void removeTargetEmitter(String id) {
+        targetConnections.remove(id);
+    }
+
+    /**
+     * 특정 대상에게 이벤트 전송 (전송 큐에 적재만 하고 전송은 writer 스레드에서)
+     *
+     * @return 이 노드에 연결이 없거나 큐 초과로 끊었으면 false
+     */
+    public boolean send(String id, String eventName, String data) {
+        Connection connection = targetConnections.get(id);
+        return connection != null && enqueue(connection, new Message(eventName, data, false));
+    }
+
+    /**
+     * 특정 대상에게 이벤트 1건 전송 후 연결 종료 (이 노드에 연결이 없으면 무시, 전송은 writer 스레드에서)
+     */
+    public void sendAndComplete(String id, String eventName, String data) {
+        Connection connection = targetConnections.remove(id);
+        if (connection != null) {
+            enqueue(connection, new Message(eventName, data, true));
+        }
+    }
+
+    /**
+     * 특정 대상 연결 종료 (앞서 적재한 이벤트를 모두 보낸 뒤)
+     */
+    public void complete(String id) {
+        Connection connection = targetConnections.remove(id);
+        if (connection != null) {
+            enqueue(connection, new Message(null, null, true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writers.shutdownNow();
     }
 }
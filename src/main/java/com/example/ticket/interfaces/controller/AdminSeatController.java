@@ -0,0 +1,58 @@
+package com.example.ticket.interfaces.controller;
+
+import com.example.ticket.application.SeatImportFacade;
+import com.example.ticket.interfaces.dto.SeatImportResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * 좌석 관리 API (운영자용, ADMIN 권한 필요: SecurityConfig)
+ *
+ * 공연 좌석 배치를 파일 하나로 일괄 등록합니다. 본문은 스트리밍으로 처리되므로 수만 석 규모도 그대로 보낼 수 있습니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/performances/{performanceId}/seats")
+public class AdminSeatController {
+
+    private final SeatImportFacade seatImportFacade;
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    /**
+     * CSV 좌석 배치 일괄 등록
+     * POST /api/v1/admin/performances/{performanceId}/seats/import (Content-Type: text/csv)
+     *
+     * 한 줄에 한 좌석: section,seatRow,seatCol[,seatNumber]
+     */
+    @PostMapping(value = "/import", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<SeatImportResponse> importCsv(@PathVariable Long performanceId, InputStream body) {
+        try {
+            return ResponseEntity.ok(seatImportFacade.importCsv(performanceId, body));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(SeatImportResponse.fail(performanceId, e.getMessage()));
+        }
+    }
+
+    /**
+     * JSON 좌석 배치 일괄 등록
+     * POST /api/v1/admin/performances/{performanceId}/seats/import (Content-Type: application/json)
+     *
+     * 본문: [{"section":"A","seatRow":1,"seatCol":1,"seatNumber":"A구역 1열 1번"}, ...]
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SeatImportResponse> importJson(@PathVariable Long performanceId, InputStream body) {
+        try {
+            return ResponseEntity.ok(seatImportFacade.importJson(performanceId, body));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(SeatImportResponse.fail(performanceId, e.getMessage()));
+        }
+    }
+}
@@ -1,80 +1,128 @@
 package com.example.ticket.interfaces.controller;
 
+import com.example.ticket.domain.performance.PerformanceService;
+import com.example.ticket.domain.user.UserService;
+import com.example.ticket.infrastructure.redis.scheduler.QueueThroughputTracker;
+import com.example.ticket.infrastructure.redis.service.AdmissionPassService;
 import com.example.ticket.infrastructure.redis.service.WaitingQueueService;
 import com.example.ticket.interfaces.dto.QueueEnterResponse;
 import com.example.ticket.interfaces.dto.QueueStatusResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+/**
+ * 공연별 대기열 API (performanceId가 없으면 가장 가까운 예정 공연의 대기열)
+ */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/queue")
 public class QueueController {
 
     private final WaitingQueueService waitingQueueService;
+    private final AdmissionPassService admissionPassService;
+    private final PerformanceService performanceService;
+    private final QueueThroughputTracker queueThroughputTracker;
+    private final UserService userService;
 
     /**
      * 대기열 진입
-     * POST /api/v1/queue/enter?userId=100
+     * POST /api/v1/queue/enter?userId=100&performanceId=1
      */
     @PostMapping("/enter")
-    public ResponseEntity<QueueEnterResponse> enterQueue(@RequestParam Long userId) {
-        // 이미 Active User면 바로 READY
-        if (waitingQueueService.isAllowed(userId)) {
+    public ResponseEntity<QueueEnterResponse> enterQueue(@RequestParam Long userId,
+                                                         @RequestParam(required = false) Long performanceId) {
+        Long resolvedId = performanceService.resolve(performanceId);
+
+        // 이미 Active User면 바로 READY (입장 허가증 발급)
+        String admissionPass = admissionPassService.issue(resolvedId, userId);
+        if (admissionPass != null) {
             return ResponseEntity.ok(QueueEnterResponse.builder()
+                    .performanceId(resolvedId)
                     .userId(userId)
                     .status("READY")
                     .message("입장 완료! 예약을 진행하세요.")
+                    .admissionPass(admissionPass)
                     .build());
         }
 
         // 대기열 등록
-        Long rank = waitingQueueService.registerAndGetRank(userId);
+        Long rank = waitingQueueService.registerAndGetRank(resolvedId, userId);
+        QueueThroughputTracker.Estimate estimate = queueThroughputTracker.estimate(resolvedId, rank);
 
         return ResponseEntity.ok(QueueEnterResponse.builder()
+                .performanceId(resolvedId)
                 .userId(userId)
                 .status("WAITING")
                 .rank(rank)
                 .message(String.format("현재 대기 중입니다. 순번: %d번", rank))
+                .estimatedWaitSeconds(estimate.waitSeconds())
+                .nextPollMillis(estimate.nextPollMillis())
+                .subscribeToken(subscribeTokenFor(resolvedId, userId))
                 .build());
     }
 
     /**
      * 대기열 상태 확인
-     * GET /api/v1/queue/status?userId=100
+     * GET /api/v1/queue/status?userId=100&performanceId=1
+     *
+     * 조회 전용: 대기 순서(score)를 다시 쓰지 않으며, 순번은 입장 커서 기준 추정치입니다.
+     * 예상 대기 시간과 다음 조회 간격(nextPollMillis)을 함께 주므로 클라이언트는 그 간격으로 조회합니다.
      */
     @GetMapping("/status")
-    public ResponseEntity<QueueStatusResponse> getQueueStatus(@RequestParam Long userId) {
-        // Active User 확인
-        if (waitingQueueService.isAllowed(userId)) {
+    public ResponseEntity<QueueStatusResponse> getQueueStatus(@RequestParam Long userId,
+                                                              @RequestParam(required = false) Long performanceId) {
+        Long resolvedId = performanceService.resolve(performanceId);
+
+        // Active User 확인 (입장 허가증 발급)
+        String admissionPass = admissionPassService.issue(resolvedId, userId);
+        if (admissionPass != null) {
             return ResponseEntity.ok(QueueStatusResponse.builder()
+                    .performanceId(resolvedId)
                     .userId(userId)
                     .status("READY")
                     .message("입장 완료! 예약이 가능합니다.")
-                    .activeUserCount(waitingQueueService.getActiveUserCount())
+                    .admissionPass(admissionPass)
+                    .activeUserCount(waitingQueueService.getCachedActiveUserCount(resolvedId))
                     .build());
         }
 
-        // 대기열 순번 확인
-        Long rank = waitingQueueService.registerAndGetRank(userId); // 없으면 등록도 함
+        // 대기열 순번 확인 (대기열에 없으면 한 번만 등록)
+        Long rank = waitingQueueService.getRank(resolvedId, userId);
+        QueueThroughputTracker.Estimate estimate = queueThroughputTracker.estimate(resolvedId, rank);
 
         return ResponseEntity.ok(QueueStatusResponse.builder()
+                .performanceId(resolvedId)
                 .userId(userId)
                 .status("WAITING")
                 .rank(rank)
                 .message(String.format("현재 대기 중입니다. 순번: %d번", rank))
-                .activeUserCount(waitingQueueService.getActiveUserCount())
+                .activeUserCount(waitingQueueService.getCachedActiveUserCount(resolvedId))
+                .estimatedWaitSeconds(estimate.waitSeconds())
+                .nextPollMillis(estimate.nextPollMillis())
+                .subscribeToken(subscribeTokenFor(resolvedId, userId))
                 .build());
     }
 
     /**
      * 대기열 이탈 (취소)
-     * DELETE /api/v1/queue?userId=100
+     * DELETE /api/v1/queue?userId=100&performanceId=1
      */
     @DeleteMapping
-    public ResponseEntity<String> leaveQueue(@RequestParam Long userId) {
-        waitingQueueService.removeActiveUser(userId);
+    public ResponseEntity<String> leaveQueue(@RequestParam Long userId,
+                                             @RequestParam(required = false) Long performanceId) {
+        admissionPassService.revoke(performanceService.resolve(performanceId), userId);
         return ResponseEntity.ok("대기열에서 나갔습니다.");
     }
+
+    // 대기열 SSE 구독 토큰 (userId가 JWT 인증 사용자 본인일 때만 발급, 다른 사용자의 순번/입장 허가증을 구독할 수 없게)
+    private String subscribeTokenFor(Long performanceId, Long userId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !userId.equals(userService.findByEmail(authentication.getName()).getId())) {
+            return null;
+        }
+        return admissionPassService.issueSubscribeToken(performanceId, userId);
+    }
 }
@@ -1,25 +1,40 @@
 package com.example.ticket.interfaces.controller;
 
+import com.example.ticket.application.AsyncReservationFacade;
 import com.example.ticket.application.ReservationFacade;
 import com.example.ticket.domain.reservation.ReservationService;
+import com.example.ticket.domain.reservation.SeatHold;
+import com.example.ticket.interfaces.dto.BatchReservationRequest;
+import com.example.ticket.interfaces.dto.BatchReservationResponse;
+import com.example.ticket.interfaces.dto.BestAvailableRequest;
 import com.example.ticket.interfaces.dto.ReservationRequest;
+import com.example.ticket.interfaces.dto.ReservationRequestResponse;
 import com.example.ticket.interfaces.dto.ReservationResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/reservations")
 public class ReservationController {
 
     private final ReservationFacade reservationFacade;
+    private final AsyncReservationFacade asyncReservationFacade;
     private final ReservationService reservationService;
 
+    // 대기열 READY 응답의 입장 허가증 (없으면 Redis로 입장 여부 확인)
+    private static final String ADMISSION_PASS_HEADER = "X-Admission-Pass";
+
     /**
      * 좌석 선점 (Active User만 호출 가능)
      * POST /api/v1/reservations/reserve
@@ -28,16 +43,102 @@ public class ReservationController {
      * 응답: reservationId (결제 요청 시 사용)
      */
     @PostMapping("/reserve")
-    public ResponseEntity<ReservationResponse> reserve(@RequestBody ReservationRequest request) {
+    public ResponseEntity<ReservationResponse> reserve(
+            @RequestBody ReservationRequest request,
+            @RequestHeader(value = ADMISSION_PASS_HEADER, required = false) String admissionPass) {
         try {
-            Long reservationId = reservationFacade.reserve(request.getSeatId(), request.getUserId());
+            Long reservationId = reservationFacade.reserve(request.getSeatId(), request.getUserId(), admissionPass);
             return ResponseEntity.ok(ReservationResponse.reserved(reservationId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ReservationResponse.fail(e.getMessage()));
         } catch (IllegalStateException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT)
                     .body(ReservationResponse.fail(e.getMessage()));
         }
     }
 
+    /**
+     * 다좌석 일괄 선점 (전부 성공 또는 전부 실패, Active User만 호출 가능)
+     * POST /api/v1/reservations/reserve-batch
+     *
+     * 응답: seatId 오름차순의 reservationId 목록 (좌석별로 결제 요청 시 사용)
+     */
+    @PostMapping("/reserve-batch")
+    public ResponseEntity<BatchReservationResponse> reserveBatch(
+            @RequestBody BatchReservationRequest request,
+            @RequestHeader(value = ADMISSION_PASS_HEADER, required = false) String admissionPass) {
+        try {
+            List<Long> reservationIds = reservationFacade.reserveAll(request.getSeatIds(), request.getUserId(), admissionPass);
+            List<Long> seatIds = request.getSeatIds().stream().sorted().toList();
+            return ResponseEntity.ok(BatchReservationResponse.reserved(seatIds, reservationIds));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(BatchReservationResponse.fail(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(BatchReservationResponse.fail(e.getMessage()));
+        }
+    }
+
+    /**
+     * 빈 연석 자동 배정 + 선점 (Active User만 호출 가능)
+     * POST /api/v1/reservations/reserve-best
+     *
+     * 좌석 ID 대신 좌석 수(count)와 구역(section, 선택)만 받아 앞 열/가운데 우선으로 붙어 있는 좌석을 배정합니다.
+     * 응답: 배정된 seatId 목록과 같은 순서의 reservationId 목록
+     */
+    @PostMapping("/reserve-best")
+    public ResponseEntity<BatchReservationResponse> reserveBest(
+            @RequestBody BestAvailableRequest request,
+            @RequestHeader(value = ADMISSION_PASS_HEADER, required = false) String admissionPass) {
+        try {
+            List<SeatHold> holds = reservationFacade.reserveBest(request.getPerformanceId(), request.getCount(),
+                    request.getSection(), request.getUserId(), admissionPass);
+            List<Long> seatIds = holds.stream().map(hold -> hold.getReservation().getSeatId()).toList();
+            List<Long> reservationIds = holds.stream().map(hold -> hold.getReservation().getId()).toList();
+            return ResponseEntity.ok(BatchReservationResponse.reserved(seatIds, reservationIds));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(BatchReservationResponse.fail(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(BatchReservationResponse.fail(e.getMessage()));
+        }
+    }
+
+    /**
+     * 비동기 좌석 선점 요청 (Active User만 호출 가능)
+     * POST /api/v1/reservations/reserve-async
+     *
+     * 요청을 reservation-requests 토픽에 적재하고 requestId를 즉시 반환합니다 (202 Accepted).
+     * 결과 확인: GET /api/v1/reservations/requests/{requestId} 또는 SSE /api/v1/sse/reservations/{requestId}
+     */
+    @PostMapping("/reserve-async")
+    public ResponseEntity<ReservationRequestResponse> reserveAsync(
+            @RequestBody ReservationRequest request,
+            @RequestHeader(value = ADMISSION_PASS_HEADER, required = false) String admissionPass) {
+        try {
+            ReservationRequestResponse accepted = asyncReservationFacade.accept(
+                    request.getSeatId(), request.getUserId(), admissionPass);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(accepted);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ReservationRequestResponse.failed(null, request.getSeatId(), e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ReservationRequestResponse.failed(null, request.getSeatId(), e.getMessage()));
+        }
+    }
+
+    /**
+     * 비동기 선점 요청 상태 조회 (폴링)
+     * GET /api/v1/reservations/requests/{requestId}
+     */
+    @GetMapping("/requests/{requestId}")
+    public ResponseEntity<ReservationRequestResponse> getRequest(@PathVariable String requestId) {
+        return asyncReservationFacade.find(requestId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     // 취소하기
     @PostMapping("/cancel")
     public ResponseEntity<ReservationResponse> cancel(@RequestBody ReservationRequest request) {
@@ -1,12 +1,21 @@
 package com.example.ticket.interfaces.controller;
 
 import com.example.ticket.application.SeatQueryService;
+import com.example.ticket.application.SeatQueryService.SeatLayoutView;
+import com.example.ticket.application.SeatQueryService.SeatMapView;
+import com.example.ticket.interfaces.dto.SeatChangesResponse;
+import com.example.ticket.interfaces.dto.SeatLayoutResponse;
 import com.example.ticket.interfaces.dto.SeatResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -15,6 +24,7 @@ import java.util.List;
  * 좌석 조회 API
  *
  * 좌석 선택 화면을 위한 조회 전용 컨트롤러입니다.
+ * 목록/비트맵/배치/변경분 조회는 공연 단위이며, performanceId가 없으면 가장 가까운 예정 공연을 조회합니다.
  */
 @RestController
 @RequiredArgsConstructor
@@ -23,16 +33,86 @@ public class SeatController {
 
     private final SeatQueryService seatQueryService;
 
+    private static final String SEAT_MAP_VERSION_HEADER = "X-Seat-Map-Version";
+    private static final String SEAT_MAP_EPOCH_HEADER = "X-Seat-Map-Epoch";
+    private static final String SEAT_LAYOUT_VERSION_HEADER = "X-Seat-Layout-Version";
+
     /**
      * 전체 좌석 목록 조회
      * GET /api/v1/seats
      *
+     * 응답의 ETag가 If-None-Match와 같으면 본문 없이 304를 반환합니다.
+     *
      * @return 전체 좌석 목록 (상태 포함)
      */
     @GetMapping
-    public ResponseEntity<List<SeatResponse>> getAllSeats() {
-        List<SeatResponse> seats = seatQueryService.getAllSeats();
-        return ResponseEntity.ok(seats);
+    public ResponseEntity<List<SeatResponse>> getAllSeats(
+            @RequestParam(required = false) Long performanceId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SeatMapView seatMap = seatQueryService.getSeatMap(performanceId);
+        return respond(seatMap, seatMap.seats(), ifNoneMatch);
+    }
+
+    /**
+     * 좌석 상태 비트맵 (대형 공연장용 압축 표현)
+     * GET /api/v1/seats/bitmap
+     *
+     * 좌석당 2비트: 0=AVAILABLE, 1=SELECTED, 2=CONFIRMED.
+     * i번째 좌석은 byte[i / 4]의 (i % 4) * 2 비트부터 (하위 비트 우선)이며, 좌석 순서는 GET /api/v1/seats/layout을 따릅니다.
+     * X-Seat-Layout-Version이 가지고 있는 배치의 layoutVersion과 다르면 배치를 다시 받아야 합니다.
+     */
+    @GetMapping(value = "/bitmap", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getBitmap(
+            @RequestParam(required = false) Long performanceId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SeatMapView seatMap = seatQueryService.getSeatMap(performanceId);
+        if (seatMap.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(seatMap.etag())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .eTag(seatMap.etag())
+                .header(SEAT_MAP_VERSION_HEADER, String.valueOf(seatMap.version()))
+                .header(SEAT_MAP_EPOCH_HEADER, String.valueOf(seatMap.epoch()))
+                .header(SEAT_LAYOUT_VERSION_HEADER, String.valueOf(seatMap.layoutVersion()))
+                .body(seatMap.bitmap());
+    }
+
+    /**
+     * 좌석 배치 (비트맵의 좌석 순서)
+     * GET /api/v1/seats/layout
+     *
+     * 좌석 추가/삭제 때만 바뀌므로 ETag로 캐시합니다.
+     */
+    @GetMapping("/layout")
+    public ResponseEntity<SeatLayoutResponse> getLayout(
+            @RequestParam(required = false) Long performanceId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SeatLayoutView layout = seatQueryService.getLayout(performanceId);
+        if (layout.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(layout.etag())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(layout.etag())
+                .body(layout.layout());
+    }
+
+    /**
+     * 변경된 좌석만 조회 (폴링 비용을 좌석 수가 아닌 변경 수에 비례하게)
+     * GET /api/v1/seats/changes?performanceId={id}&since={version}&epoch={epoch}
+     *
+     * since/epoch는 직전 응답(전체 조회의 ETag/X-Seat-Map-Version 또는 이 API의 응답)에서 받은 값입니다.
+     * resync=true면 GET /api/v1/seats로 전체 좌석 맵을 다시 받아야 합니다.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<SeatChangesResponse> getChanges(@RequestParam(required = false) Long performanceId,
+                                                          @RequestParam long since,
+                                                          @RequestParam(required = false) Long epoch) {
+        return ResponseEntity.ok(seatQueryService.getChanges(performanceId, epoch, since));
     }
 
     /**
@@ -52,11 +132,29 @@ public class SeatController {
      * 예약 가능한 좌석만 조회
      * GET /api/v1/seats/available
      *
+     * 전체 좌석 목록과 같은 ETag를 사용합니다 (URL별로 캐시되므로 충돌 없음).
+     *
      * @return 예약 가능한 좌석 목록
      */
     @GetMapping("/available")
-    public ResponseEntity<List<SeatResponse>> getAvailableSeats() {
-        List<SeatResponse> seats = seatQueryService.getAvailableSeats();
-        return ResponseEntity.ok(seats);
+    public ResponseEntity<List<SeatResponse>> getAvailableSeats(
+            @RequestParam(required = false) Long performanceId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SeatMapView seatMap = seatQueryService.getSeatMap(performanceId);
+        return respond(seatMap, seatMap.availableSeats(), ifNoneMatch);
+    }
+
+    // 좌석 맵 version이 클라이언트가 가진 것과 같으면 304, 아니면 ETag + version 헤더와 함께 200
+    private ResponseEntity<List<SeatResponse>> respond(SeatMapView seatMap, List<SeatResponse> body, String ifNoneMatch) {
+        if (seatMap.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(seatMap.etag())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(seatMap.etag())
+                .header(SEAT_MAP_VERSION_HEADER, String.valueOf(seatMap.version()))
+                .header(SEAT_MAP_EPOCH_HEADER, String.valueOf(seatMap.epoch()))
+                .body(body);
     }
 }
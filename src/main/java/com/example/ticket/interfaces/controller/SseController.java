@@ -1,11 +1,22 @@
 package com.example.ticket.interfaces.controller;
 
+import com.example.ticket.application.AsyncReservationFacade;
+import com.example.ticket.infrastructure.redis.pubsub.ReservationResultSubscriber;
+import com.example.ticket.infrastructure.redis.service.AdmissionPassService;
+import com.example.ticket.infrastructure.sse.QueueSubscriptions;
 import com.example.ticket.infrastructure.sse.SseEmitterRegistry;
+import com.example.ticket.interfaces.dto.ReservationRequestResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -19,7 +30,21 @@ import java.util.UUID;
 public class SseController {
 
     private final SseEmitterRegistry registry;
+    private final AsyncReservationFacade asyncReservationFacade;
+    private final ObjectMapper objectMapper;
+    private final QueueSubscriptions queueSubscriptions;
+    private final AdmissionPassService admissionPassService;
 
+    private static final long RESERVATION_RESULT_TIMEOUT_MS = 60_000L;
+    private static final long QUEUE_TIMEOUT_MS = 30 * 60_000L;
+
+    /**
+     * 좌석 상태 구독
+     * GET /api/v1/sse/seats
+     *
+     * seat-update 데이터는 좌석 한 건 {seatId, seatNumber, status} 또는
+     * 같은 상태로 바뀐 좌석 묶음 {status, seats: [{seatId, seatNumber}]} 입니다 (docs/API_사용_가이드.md).
+     */
     @GetMapping(value = "/seats", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter subscribe() {
         String id = UUID.randomUUID().toString();
@@ -38,4 +63,54 @@ public class SseController {
 
         return emitter;
     }
+
+    /**
+     * 비동기 선점 요청 결과 구독 (결과 1건 전송 후 종료)
+     * GET /api/v1/sse/reservations/{requestId}
+     */
+    @GetMapping(value = "/reservations/{requestId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeReservation(@PathVariable String requestId) {
+        String id = ReservationResultSubscriber.EMITTER_PREFIX + requestId;
+        SseEmitter emitter = new SseEmitter(RESERVATION_RESULT_TIMEOUT_MS);
+
+        registry.addTargetEmitter(id, emitter);
+        emitter.onCompletion(() -> registry.removeTargetEmitter(id));
+        emitter.onTimeout(() -> registry.removeTargetEmitter(id));
+        emitter.onError(e -> registry.removeTargetEmitter(id));
+
+        // 구독 전에 이미 처리가 끝난 요청이면 저장된 결과를 바로 전송
+        asyncReservationFacade.find(requestId)
+                .filter(result -> !"PENDING".equals(result.getStatus()))
+                .ifPresent(result -> registry.sendAndComplete(id, "reservation-result", toJson(result)));
+
+        return emitter;
+    }
+
+    /**
+     * 대기열 순번 구독 (GET /api/v1/queue/status 폴링 대체)
+     * GET /api/v1/sse/queue?token={subscribeToken}
+     *
+     * 토큰은 /api/v1/queue/enter, /api/v1/queue/status를 JWT 인증 사용자 본인의 userId로 호출한
+     * WAITING 응답(subscribeToken)으로 받으며, 공연과 사용자는 토큰에서만 꺼냅니다
+     * (다른 사용자의 순번/입장 허가증을 구독할 수 없음). 유효하지 않으면 401입니다.
+     * 순번이 바뀔 때마다 queue-position, 입장 허가 시 queue-ready를 보내고 종료합니다.
+     */
+    @GetMapping(value = "/queue", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeQueue(@RequestParam String token) {
+        AdmissionPassService.QueueSubscriber subscriber = admissionPassService.verifySubscribeToken(token);
+        if (subscriber == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        SseEmitter emitter = new SseEmitter(QUEUE_TIMEOUT_MS);
+        queueSubscriptions.subscribe(subscriber.performanceId(), subscriber.userId(), emitter);
+        return ResponseEntity.ok(emitter);
+    }
+
+    private String toJson(ReservationRequestResponse result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("예약 요청 상태 직렬화 실패: " + result.getRequestId());
+        }
+    }
 }
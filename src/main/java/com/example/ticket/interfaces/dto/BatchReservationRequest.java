@@ -0,0 +1,17 @@
+package com.example.ticket.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchReservationRequest {
+    private Long userId;
+    private List<Long> seatIds;
+}
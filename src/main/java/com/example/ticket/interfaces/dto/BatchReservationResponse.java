@@ -0,0 +1,25 @@
+package com.example.ticket.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class BatchReservationResponse {
+    private boolean success;
+    private String message;
+    private List<Long> seatIds;
+    private List<Long> reservationIds; // seatIds와 같은 순서
+
+    public static BatchReservationResponse reserved(List<Long> seatIds, List<Long> reservationIds) {
+        return new BatchReservationResponse(true, reservationIds.size() + "석 선점 완료", seatIds, reservationIds);
+    }
+
+    public static BatchReservationResponse fail(String message) {
+        return new BatchReservationResponse(false, message, List.of(), List.of());
+    }
+}
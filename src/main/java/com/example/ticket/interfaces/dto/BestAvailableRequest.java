@@ -0,0 +1,17 @@
+package com.example.ticket.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BestAvailableRequest {
+    private Long userId;
+    private Long performanceId; // 선택, 없으면 가장 가까운 예정 공연
+    private int count;
+    private String section; // 선택, 없으면 전체 구역
+}
@@ -10,8 +10,13 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class QueueEnterResponse {
+    private Long performanceId;     // 대기열 공연
     private Long userId;
     private String status;  // "WAITING" or "READY"
     private Long rank;      // 대기 순번 (WAITING일 때만)
     private String message;
+    private String admissionPass;   // 서명된 입장 허가증 (READY일 때만, 예약 요청의 X-Admission-Pass 헤더로 전달)
+    private Long estimatedWaitSeconds;  // 예상 대기 시간 (WAITING일 때만, 처리 속도를 아직 모르면 null)
+    private Long nextPollMillis;        // 다음 상태 조회까지 권장 간격 (WAITING일 때만, 앞쪽일수록 짧음)
+    private String subscribeToken;      // 대기열 SSE 구독 토큰 (WAITING이고 userId가 인증 사용자 본인일 때만, GET /api/v1/sse/queue?token=)
 }
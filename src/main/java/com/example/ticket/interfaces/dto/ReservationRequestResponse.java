@@ -0,0 +1,33 @@
+package com.example.ticket.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 예약 요청 상태 (접수 응답, 폴링 조회, SSE 결과 공통)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationRequestResponse {
+    private String requestId;
+    private String status;          // "PENDING", "SUCCESS", "FAILED"
+    private Long seatId;
+    private Long reservationId;     // SUCCESS일 때만
+    private String message;
+
+    public static ReservationRequestResponse pending(String requestId, Long seatId) {
+        return new ReservationRequestResponse(requestId, "PENDING", seatId, null, "예약 요청이 접수되었습니다.");
+    }
+
+    public static ReservationRequestResponse succeeded(String requestId, Long seatId, Long reservationId) {
+        return new ReservationRequestResponse(requestId, "SUCCESS", seatId, reservationId, "좌석 선점 완료");
+    }
+
+    public static ReservationRequestResponse failed(String requestId, Long seatId, String message) {
+        return new ReservationRequestResponse(requestId, "FAILED", seatId, null, message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.ticket.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 좌석 변경분 응답
+ *
+ * resync가 true면 변경 로그로 따라올 수 없으므로 GET /api/v1/seats로 전체 좌석 맵을 다시 받아야 합니다.
+ * 다음 요청에는 응답의 epoch, version을 그대로 넘깁니다.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class SeatChangesResponse {
+    private long epoch;
+    private long version;
+    private boolean resync;
+    private List<SeatResponse> changes;
+}
@@ -0,0 +1,27 @@
+package com.example.ticket.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 좌석 일괄 등록 결과 (단계별 소요 시간과 처리량)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class SeatImportResponse {
+    private Long performanceId;
+    private int rows;
+    private long insertMillis;      // 파싱 + DB 배치 INSERT
+    private long prewarmMillis;     // 좌석 맵/열 인덱스 적재 + Redis 상태 예열
+    private long rowsPerSecond;     // 전체 소요 시간 기준
+    private String message;
+
+    public static SeatImportResponse fail(Long performanceId, String message) {
+        return SeatImportResponse.builder()
+                .performanceId(performanceId)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.ticket.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 좌석 배치 (좌석 상태 비트맵의 좌석 순서)
+ *
+ * i번째 좌석 = (seatIds[i], seatNumbers[i]). 좌석 추가/삭제 때만 바뀌므로 ETag로 캐시해 두고 재사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class SeatLayoutResponse {
+    private Long performanceId;
+    private long epoch;
+    private long layoutVersion;
+    private List<Long> seatIds;
+    private List<String> seatNumbers;
+}
@@ -15,6 +15,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
 class ReservationFacadeTest {
@@ -81,4 +82,11 @@ class ReservationFacadeTest {
         // 검증: 예약 테이블에 저장된 데이터도 딱 1개여야 함
         assertEquals(1, reservationRepository.count());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("존재하지 않는 좌석은 입장 확인 전에 잘못된 요청으로 거절한다")
+    void rejects_unknown_seat_before_admission_check() {
+        assertThrows(IllegalArgumentException.class,
+                () -> reservationFacade.reserve(Long.MAX_VALUE, 1L));
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.ticket.application.claim;
+
+import com.example.ticket.domain.reservation.ReservationRepository;
+import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.domain.seat.SeatRepository;
+import com.example.ticket.infrastructure.redis.service.SeatCacheService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 좌석 선점 전략 비교 벤치마크
+ *
+ * 같은 경합 조건(핫 좌석 1개 / 좌석 10개 분산, 스레드 100~1000개)에서
+ * 등록된 모든 SeatClaimStrategy의 처리량과 p50/p99 지연을 출력합니다.
+ * 분산도 좌석보다 스레드가 많아 좌석마다 경합이 생깁니다 (좌석당 10~100명).
+ *
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark로만 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class SeatClaimBenchmarkTest {
+
+    @Autowired
+    private SeatClaimStrategies seatClaimStrategies;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private SeatCacheService seatCacheService;
+
+    private static final int[] THREAD_COUNTS = {100, 1000};
+    private static final int[] SEAT_COUNTS = {1, 10}; // 1 = 핫 좌석, 10 = 분산 (좌석보다 스레드가 많음)
+
+    @Test
+    @DisplayName("📊 [벤치마크] 선점 전략별 처리량 / p50 / p99 비교")
+    void benchmark_all_strategies() throws InterruptedException {
+        List<String> rows = new ArrayList<>();
+
+        for (String strategyName : seatClaimStrategies.names()) {
+            for (int seatCount : SEAT_COUNTS) {
+                for (int threadCount : THREAD_COUNTS) {
+                    rows.add(run(seatClaimStrategies.get(strategyName), seatCount, threadCount));
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.println("=".repeat(96));
+        System.out.printf("%-20s %8s %8s %8s %8s %12s %10s %10s%n",
+                "strategy", "seats", "threads", "success", "fail", "ops/s", "p50(ms)", "p99(ms)");
+        System.out.println("-".repeat(96));
+        rows.forEach(System.out::println);
+        System.out.println("=".repeat(96));
+        System.out.println();
+    }
+
+    private String run(SeatClaimStrategy strategy, int seatCount, int threadCount) throws InterruptedException {
+        // 매 실행마다 새 좌석을 만들어 이전 실행의 상태가 섞이지 않게 함
+        List<Long> seatIds = seatRepository.saveAll(
+                        IntStream.range(0, seatCount)
+                                .mapToObj(i -> new Seat("BENCH-" + strategy.name() + "-" + i))
+                                .toList())
+                .stream()
+                .map(Seat::getId)
+                .toList();
+        seatIds.forEach(seatCacheService::deleteSeatStatus);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        long[] latencies = new long[threadCount];
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            int index = i;
+            Long seatId = seatIds.get(i % seatCount);
+            long userId = 1_000_000L + i;
+            executorService.submit(() -> {
+                try {
+                    ready.countDown();
+                    start.await();
+                    long begin = System.nanoTime();
+                    try {
+                        strategy.claim(seatId, userId);
+                        successCount.incrementAndGet();
+                    } catch (Exception e) {
+                        failCount.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - begin;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        executorService.shutdown();
+
+        // 검증: 좌석마다 정확히 1명만 선점해야 함 (전략과 무관한 정합성 기준)
+        assertEquals(seatCount, successCount.get(), strategy.name() + " 선점 성공 수");
+        long held = reservationRepository.findAll().stream()
+                .filter(r -> seatIds.contains(r.getSeatId()))
+                .count();
+        assertEquals(seatCount, held, strategy.name() + " 예약 행 수");
+
+        Arrays.sort(latencies);
+        double throughput = threadCount / (elapsed / 1_000_000_000.0);
+        return String.format("%-20s %8d %8d %8d %8d %12.1f %10.2f %10.2f",
+                strategy.name(), seatCount, threadCount, successCount.get(), failCount.get(),
+                throughput, percentile(latencies, 0.50), percentile(latencies, 0.99));
+    }
+
+    private double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.ticket.infrastructure.cache;
+
+import com.example.ticket.domain.performance.PerformanceService;
+import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.domain.seat.SeatRepository;
+import com.example.ticket.domain.seat.SeatStatus;
+import com.example.ticket.infrastructure.redis.service.SeatKeys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SeatMapTest {
+
+    private static final Long PERFORMANCE_ID = 1L;
+    private static final int CHANGE_LOG_SIZE = 8;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private PerformanceService performanceService;
+
+    private SeatMap seatMap;
+
+    @BeforeEach
+    void setUp() {
+        seatMap = new SeatMap(seatRepository, performanceService, new SeatKeys(seatRepository), CHANGE_LOG_SIZE);
+    }
+
+    private static Seat seat(long id, SeatStatus status) {
+        Seat seat = new Seat(PERFORMANCE_ID, "A" + id, "A", 1, (int) id);
+        ReflectionTestUtils.setField(seat, "id", id);
+        ReflectionTestUtils.setField(seat, "status", status);
+        return seat;
+    }
+
+    private void givenAvailableSeats(long count) {
+        when(seatRepository.findAllByPerformanceId(PERFORMANCE_ID)).thenReturn(
+                LongStream.rangeClosed(1, count).mapToObj(id -> seat(id, SeatStatus.AVAILABLE)).toList());
+    }
+
+    private static SeatMap.SeatEntry entry(long id, String status) {
+        return new SeatMap.SeatEntry(id, "A" + id, status);
+    }
+
+    // 비트맵에서 배치 순서 index인 좌석의 상태 (좌석당 2비트)
+    private static SeatStatus statusAt(byte[] bitmap, int index) {
+        return SeatStatus.values()[(bitmap[index / 4] >> ((index % 4) * 2)) & 0b11];
+    }
+
+    @Test
+    @DisplayName("좌석 상태를 좌석 배치(seatId 오름차순) 순서대로 좌석당 2비트로 묶는다")
+    void packs_two_bits_per_seat_in_layout_order() {
+        when(seatRepository.findAllByPerformanceId(PERFORMANCE_ID)).thenReturn(List.of(
+                seat(5, SeatStatus.CONFIRMED), seat(1, SeatStatus.AVAILABLE), seat(3, SeatStatus.SELECTED),
+                seat(2, SeatStatus.CONFIRMED), seat(4, SeatStatus.AVAILABLE), seat(6, SeatStatus.SELECTED)));
+
+        SeatMap.Snapshot snapshot = seatMap.snapshot(PERFORMANCE_ID);
+        SeatMap.Layout layout = seatMap.layout(PERFORMANCE_ID);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L),
+                layout.seats().stream().map(SeatMap.LayoutEntry::seatId).toList());
+        assertEquals(2, snapshot.bitmap().length); // 6석 → 4석씩 2바이트
+        assertEquals(layout.version(), snapshot.layoutVersion());
+        List<SeatStatus> expected = List.of(SeatStatus.AVAILABLE, SeatStatus.CONFIRMED, SeatStatus.SELECTED,
+                SeatStatus.AVAILABLE, SeatStatus.CONFIRMED, SeatStatus.SELECTED);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), statusAt(snapshot.bitmap(), i), "좌석 배치 " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("상태가 바뀐 좌석의 2비트만 갱신하고, 이전 스냅샷의 비트맵은 바뀌지 않는다")
+    void updates_only_changed_seat_bits() {
+        when(seatRepository.findAllByPerformanceId(PERFORMANCE_ID)).thenReturn(List.of(
+                seat(1, SeatStatus.SELECTED), seat(2, SeatStatus.AVAILABLE), seat(3, SeatStatus.SELECTED),
+                seat(4, SeatStatus.CONFIRMED), seat(5, SeatStatus.SELECTED)));
+        SeatMap.Snapshot before = seatMap.snapshot(PERFORMANCE_ID);
+        byte[] beforeBitmap = before.bitmap().clone();
+
+        seatMap.onSeatStatusChanged(2L, "CONFIRMED");
+        seatMap.onSeatStatusChanged(4L, "AVAILABLE");
+        SeatMap.Snapshot after = seatMap.snapshot(PERFORMANCE_ID);
+
+        assertEquals(SeatStatus.SELECTED, statusAt(after.bitmap(), 0));
+        assertEquals(SeatStatus.CONFIRMED, statusAt(after.bitmap(), 1));
+        assertEquals(SeatStatus.SELECTED, statusAt(after.bitmap(), 2));
+        assertEquals(SeatStatus.AVAILABLE, statusAt(after.bitmap(), 3));
+        assertEquals(SeatStatus.SELECTED, statusAt(after.bitmap(), 4)); // 다음 바이트의 첫 좌석
+        assertEquals(before.layoutVersion(), after.layoutVersion()); // 상태 변경은 배치를 바꾸지 않음
+        assertArrayEquals(beforeBitmap, before.bitmap());
+    }
+
+    @Test
+    @DisplayName("좌석이 추가되면 좌석 배치와 비트맵을 다시 만든다")
+    void rebuilds_layout_when_seats_are_added() {
+        when(seatRepository.findAllByPerformanceId(PERFORMANCE_ID)).thenReturn(
+                List.of(seat(1, SeatStatus.AVAILABLE), seat(2, SeatStatus.AVAILABLE),
+                        seat(3, SeatStatus.AVAILABLE), seat(4, SeatStatus.CONFIRMED)),
+                List.of(seat(1, SeatStatus.AVAILABLE), seat(2, SeatStatus.AVAILABLE),
+                        seat(3, SeatStatus.AVAILABLE), seat(4, SeatStatus.CONFIRMED), seat(5, SeatStatus.SELECTED)));
+        SeatMap.Layout before = seatMap.layout(PERFORMANCE_ID);
+        assertEquals(1, seatMap.snapshot(PERFORMANCE_ID).bitmap().length);
+
+        seatMap.resync(PERFORMANCE_ID);
+        SeatMap.Snapshot after = seatMap.snapshot(PERFORMANCE_ID);
+
+        assertTrue(after.layoutVersion() > before.version());
+        assertEquals(5, seatMap.layout(PERFORMANCE_ID).seats().size());
+        assertEquals(2, after.bitmap().length);
+        assertEquals(SeatStatus.CONFIRMED, statusAt(after.bitmap(), 3));
+        assertEquals(SeatStatus.SELECTED, statusAt(after.bitmap(), 4));
+    }
+
+    @Test
+    @DisplayName("변경 로그 범위 안이면 이후 변경분만 좌석별 최신 상태로, 마지막 변경 순서대로 돌려준다")
+    void changes_since_within_log() {
+        givenAvailableSeats(4);
+        long since = seatMap.snapshot(PERFORMANCE_ID).version();
+
+        seatMap.onSeatStatusChanged(1L, "SELECTED");
+        seatMap.onSeatStatusChanged(2L, "SELECTED");
+        seatMap.onSeatStatusChanged(1L, "CONFIRMED");
+        seatMap.onSeatStatusChanged(2L, "SELECTED"); // 같은 상태는 변경이 아님
+
+        SeatMap.Changes changes = seatMap.changesSince(PERFORMANCE_ID, null, since);
+        assertFalse(changes.resync());
+        assertEquals(since + 3, changes.version());
+        assertEquals(List.of(entry(2, "SELECTED"), entry(1, "CONFIRMED")), changes.changes());
+    }
+
+    @Test
+    @DisplayName("링 버퍼가 한 바퀴 넘게 돌아도 범위 안의 변경분은 정확하고, 범위를 벗어나면 resync를 안내한다")
+    void ring_buffer_wraps() {
+        givenAvailableSeats(4);
+        long start = seatMap.snapshot(PERFORMANCE_ID).version();
+
+        // 12건 변경 (용량 8을 넘어 앞쪽 슬롯을 덮어씀): 1~4 선점 → 1~4 해제 → 1~4 선점
+        for (int i = 0; i < 12; i++) {
+            seatMap.onSeatStatusChanged((long) (i % 4 + 1), (i / 4) % 2 == 0 ? "SELECTED" : "AVAILABLE");
+        }
+        long version = start + 12;
+
+        SeatMap.Changes oldest = seatMap.changesSince(PERFORMANCE_ID, null, version - CHANGE_LOG_SIZE);
+        assertFalse(oldest.resync());
+        assertEquals(version, oldest.version());
+        assertEquals(List.of(entry(1, "SELECTED"), entry(2, "SELECTED"), entry(3, "SELECTED"), entry(4, "SELECTED")),
+                oldest.changes());
+
+        // 덮어쓴 슬롯에 기록된 최근 변경 (version 12, 13)
+        assertEquals(List.of(entry(3, "SELECTED"), entry(4, "SELECTED")),
+                seatMap.changesSince(PERFORMANCE_ID, null, version - 2).changes());
+
+        SeatMap.Changes tooOld = seatMap.changesSince(PERFORMANCE_ID, null, version - CHANGE_LOG_SIZE - 1);
+        assertTrue(tooOld.resync());
+        assertTrue(tooOld.changes().isEmpty());
+
+        SeatMap.Changes current = seatMap.changesSince(PERFORMANCE_ID, null, version);
+        assertFalse(current.resync());
+        assertTrue(current.changes().isEmpty());
+    }
+
+    @Test
+    @DisplayName("다른 epoch, 미래 version, 좌석 추가 이전 version은 resync를 안내한다")
+    void resync_flag() {
+        when(seatRepository.findAllByPerformanceId(PERFORMANCE_ID)).thenReturn(
+                List.of(seat(1, SeatStatus.AVAILABLE), seat(2, SeatStatus.AVAILABLE)),
+                List.of(seat(1, SeatStatus.AVAILABLE), seat(2, SeatStatus.AVAILABLE), seat(3, SeatStatus.AVAILABLE)));
+        SeatMap.Snapshot loaded = seatMap.snapshot(PERFORMANCE_ID);
+        seatMap.onSeatStatusChanged(1L, "SELECTED");
+
+        assertTrue(seatMap.changesSince(PERFORMANCE_ID, loaded.epoch() - 1, loaded.version()).resync());
+        assertTrue(seatMap.changesSince(PERFORMANCE_ID, loaded.epoch(), loaded.version() + 2).resync());
+        assertFalse(seatMap.changesSince(PERFORMANCE_ID, loaded.epoch(), loaded.version()).resync());
+
+        // 좌석 추가(구조 변경)는 변경분으로 표현할 수 없으므로 그 이전 version은 모두 resync
+        seatMap.resync(PERFORMANCE_ID);
+        long added = seatMap.snapshot(PERFORMANCE_ID).version();
+        assertTrue(seatMap.changesSince(PERFORMANCE_ID, loaded.epoch(), loaded.version()).resync());
+        assertTrue(seatMap.changesSince(PERFORMANCE_ID, loaded.epoch(), added - 1).resync());
+        assertFalse(seatMap.changesSince(PERFORMANCE_ID, loaded.epoch(), added).resync());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.ticket.infrastructure.cache;
+
+import com.example.ticket.domain.performance.PerformanceService;
+import com.example.ticket.domain.seat.Seat;
+import com.example.ticket.domain.seat.SeatRepository;
+import com.example.ticket.domain.seat.SeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SeatRowIndexTest {
+
+    private static final Long PERFORMANCE_ID = 1L;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private PerformanceService performanceService;
+
+    private SeatRowIndex seatRowIndex;
+
+    @BeforeEach
+    void setUp() {
+        seatRowIndex = new SeatRowIndex(seatRepository, performanceService);
+    }
+
+    private static Seat seat(long id, int col) {
+        Seat seat = new Seat(PERFORMANCE_ID, "A" + col, "A", 1, col);
+        ReflectionTestUtils.setField(seat, "id", id);
+        ReflectionTestUtils.setField(seat, "status", SeatStatus.AVAILABLE);
+        return seat;
+    }
+
+    private static List<Seat> row(long... ids) {
+        return LongStream.range(0, ids.length).mapToObj(i -> seat(ids[(int) i], (int) i + 1)).toList();
+    }
+
+    @Test
+    @DisplayName("다시 적재하면 좌석 위치를 공연 단위로 교체해 삭제/재가져오기된 좌석이 남지 않는다")
+    void reload_replaces_positions_of_performance() {
+        when(seatRepository.findAllByPerformanceId(PERFORMANCE_ID)).thenReturn(row(1, 2, 3, 4), row(1, 2, 5, 6));
+        seatRowIndex.reload(PERFORMANCE_ID);
+        seatRowIndex.reload(PERFORMANCE_ID);
+
+        seatRowIndex.onSeatStatusChanged(3L, SeatStatus.SELECTED.name()); // 사라진 좌석의 메시지는 무시
+        @SuppressWarnings("unchecked")
+        Map<Long, Long> performanceBySeat =
+                (Map<Long, Long>) ReflectionTestUtils.getField(seatRowIndex, "performanceBySeat");
+        assertEquals(Set.of(1L, 2L, 5L, 6L), performanceBySeat.keySet());
+        assertEquals(List.of(1L, 2L, 5L, 6L), seatRowIndex.take(PERFORMANCE_ID, null, 4));
+    }
+
+    @Test
+    @DisplayName("DB를 읽는 동안 선점한 좌석은 다시 적재한 뒤에도 빈 좌석으로 돌아오지 않는다")
+    void reload_keeps_seats_taken_while_reading() {
+        List<Seat> seats = row(1, 2, 3, 4);
+        when(seatRepository.findAllByPerformanceId(PERFORMANCE_ID)).thenReturn(seats).thenAnswer(invocation -> {
+            assertEquals(List.of(2L, 3L), seatRowIndex.take(PERFORMANCE_ID, null, 2)); // 읽는 사이 다른 요청이 선점
+            return seats; // DB에는 아직 AVAILABLE
+        });
+        seatRowIndex.reload(PERFORMANCE_ID);
+        seatRowIndex.reload(PERFORMANCE_ID);
+
+        assertTrue(seatRowIndex.take(PERFORMANCE_ID, null, 2).isEmpty());
+        assertEquals(List.of(1L), seatRowIndex.take(PERFORMANCE_ID, null, 1));
+    }
+}
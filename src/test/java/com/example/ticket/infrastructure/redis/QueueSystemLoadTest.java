@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
 
@@ -28,14 +29,20 @@ class QueueSystemLoadTest {
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
 
-    private static final String QUEUE_KEY = "ticket:waiting:queue";
-    private static final String ACTIVE_KEY_PREFIX = "ticket:active:users:";
+    @Value("${queue.shards:8}")
+    private int shards;
+
+    private static final Long PERFORMANCE_ID = 1L;
+    private static final String QUEUE_KEY_PREFIX = "ticket:waiting:queue:" + PERFORMANCE_ID + ":";
+    private static final String ACTIVE_KEY = "{ticket:admission:" + PERFORMANCE_ID + "}:active";
 
     @BeforeEach
     void setUp() {
-        // Redis 초기화
-        redisTemplate.delete(QUEUE_KEY);
-        redisTemplate.keys(ACTIVE_KEY_PREFIX + "*").forEach(redisTemplate::delete);
+        // Redis 초기화 (공연 대기열 샤드 전체 + Active User)
+        for (int i = 0; i < shards; i++) {
+            redisTemplate.delete(QUEUE_KEY_PREFIX + "{" + PERFORMANCE_ID + ":" + i + "}");
+        }
+        redisTemplate.delete(ACTIVE_KEY);
     }
 
     @Test
@@ -67,7 +74,7 @@ class QueueSystemLoadTest {
             long userId = i;
             executorService.submit(() -> {
                 try {
-                    waitingQueueService.registerAndGetRank(userId);
+                    waitingQueueService.registerAndGetRank(PERFORMANCE_ID, userId);
                 } finally {
                     latch.countDown();
                 }
@@ -77,8 +84,8 @@ class QueueSystemLoadTest {
         latch.await();
         long phase1Duration = System.currentTimeMillis() - phase1Start;
 
-        Long waitingCount = redisTemplate.opsForZSet().size(QUEUE_KEY);
-        Long activeCount = waitingQueueService.getActiveUserCount();
+        Long waitingCount = waitingQueueService.getWaitingCount(PERFORMANCE_ID);
+        Long activeCount = waitingQueueService.getActiveUserCount(PERFORMANCE_ID);
 
         System.out.println("✅ Phase 1 완료!");
         System.out.println("   • 소요 시간: " + phase1Duration + "ms");
@@ -99,8 +106,8 @@ class QueueSystemLoadTest {
             cycles++;
             queueScheduler.moveWaitingToActive();
 
-            Long currentWaiting = redisTemplate.opsForZSet().size(QUEUE_KEY);
-            Long currentActive = waitingQueueService.getActiveUserCount();
+            Long currentWaiting = waitingQueueService.getWaitingCount(PERFORMANCE_ID);
+            Long currentActive = waitingQueueService.getActiveUserCount(PERFORMANCE_ID);
 
             // 최대 100명 제한 검증
             assertTrue(currentActive <= maxActiveUsers,
@@ -131,8 +138,8 @@ class QueueSystemLoadTest {
         System.out.println("✅ Phase 2 완료!");
         System.out.println("   • 총 사이클: " + cycles + "회");
         System.out.println("   • 소요 시간: " + (phase2Duration / 1000) + "초 (" + phase2Duration + "ms)");
-        System.out.println("   • 최종 Active User: " + waitingQueueService.getActiveUserCount() + "명");
-        System.out.println("   • 최종 대기열: " + redisTemplate.opsForZSet().size(QUEUE_KEY) + "명");
+        System.out.println("   • 최종 Active User: " + waitingQueueService.getActiveUserCount(PERFORMANCE_ID) + "명");
+        System.out.println("   • 최종 대기열: " + waitingQueueService.getWaitingCount(PERFORMANCE_ID) + "명");
         System.out.println();
 
         // ========== Phase 3: Active User 순차 제거 시뮬레이션 ==========
@@ -147,11 +154,11 @@ class QueueSystemLoadTest {
             // 10명씩 제거
             for (int i = 0; i < 10; i++) {
                 long userId = batch * 10 + i + 1;
-                waitingQueueService.removeActiveUser(userId);
+                waitingQueueService.removeActiveUser(PERFORMANCE_ID, userId);
                 removeCount++;
             }
 
-            Long currentActive = waitingQueueService.getActiveUserCount();
+            Long currentActive = waitingQueueService.getActiveUserCount(PERFORMANCE_ID);
             System.out.printf("🔄 [Batch %d] %d명 제거 → Active User: %d명%n",
                     batch + 1, removeCount, currentActive);
 
@@ -166,7 +173,7 @@ class QueueSystemLoadTest {
         System.out.println("✅ Phase 3 완료!");
         System.out.println("   • 제거한 인원: " + removeCount + "명");
         System.out.println("   • 소요 시간: " + phase3Duration + "ms");
-        System.out.println("   • 최종 Active User: " + waitingQueueService.getActiveUserCount() + "명");
+        System.out.println("   • 최종 Active User: " + waitingQueueService.getActiveUserCount(PERFORMANCE_ID) + "명");
         System.out.println();
 
         // ========== 최종 결과 ==========
@@ -203,7 +210,7 @@ class QueueSystemLoadTest {
 
         // 1000명 대기열 진입
         for (int i = 1; i <= 1000; i++) {
-            waitingQueueService.registerAndGetRank((long) i);
+            waitingQueueService.registerAndGetRank(PERFORMANCE_ID, (long) i);
         }
 
         // Scheduler 10번 실행 (동시에 여러 스레드에서)
@@ -215,7 +222,7 @@ class QueueSystemLoadTest {
             executorService.submit(() -> {
                 try {
                     queueScheduler.moveWaitingToActive();
-                    Long activeCount = waitingQueueService.getActiveUserCount();
+                    Long activeCount = waitingQueueService.getActiveUserCount(PERFORMANCE_ID);
                     System.out.printf("🔄 [Thread %d] Active User: %d명%n", cycle, activeCount);
                 } finally {
                     latch.countDown();
@@ -226,7 +233,7 @@ class QueueSystemLoadTest {
         latch.await();
         executorService.shutdown();
 
-        Long finalActive = waitingQueueService.getActiveUserCount();
+        Long finalActive = waitingQueueService.getActiveUserCount(PERFORMANCE_ID);
         System.out.println();
         System.out.println("✅ 최종 Active User: " + finalActive + "명");
         assertTrue(finalActive <= 100, "동시 실행에도 100명 제한이 지켜져야 함");
@@ -0,0 +1,157 @@
+package com.example.ticket.infrastructure.redis.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionPassServiceTest {
+
+    private static final String SECRET = "admission-pass-test-secret";
+    private static final Long PERFORMANCE_ID = 1L;
+    private static final Long USER_ID = 100L;
+
+    @Mock
+    private WaitingQueueService waitingQueueService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private AdmissionPassService admissionPassService;
+
+    @BeforeEach
+    void setUp() {
+        admissionPassService = new AdmissionPassService(waitingQueueService, redisTemplate, SECRET, 60_000L);
+    }
+
+    // 입장 허가가 만료 시각 expiresAt까지인 사용자의 허가증 발급
+    private String issuePass(AdmissionPassService service, Long performanceId, long expiresAt) {
+        when(waitingQueueService.activeUntil(performanceId, USER_ID)).thenReturn(expiresAt);
+        return service.issue(performanceId, USER_ID);
+    }
+
+    private long inFiveMinutes() {
+        return System.currentTimeMillis() + 300_000L;
+    }
+
+    @Test
+    @DisplayName("발급한 허가증은 Redis 조회 없이 검증된다")
+    void valid_pass() {
+        String pass = issuePass(admissionPassService, PERFORMANCE_ID, inFiveMinutes());
+
+        assertTrue(admissionPassService.isAllowed(PERFORMANCE_ID, USER_ID, pass));
+    }
+
+    @Test
+    @DisplayName("입장 허가가 없으면 허가증을 발급하지 않는다")
+    void no_admission() {
+        assertNull(admissionPassService.issue(PERFORMANCE_ID, USER_ID));
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 허가증은 거절된다")
+    void wrong_key() {
+        AdmissionPassService otherKey =
+                new AdmissionPassService(waitingQueueService, redisTemplate, "another-secret", 60_000L);
+        String pass = issuePass(otherKey, PERFORMANCE_ID, inFiveMinutes());
+
+        assertFalse(admissionPassService.isAllowed(PERFORMANCE_ID, USER_ID, pass));
+    }
+
+    @Test
+    @DisplayName("만료된 허가증은 거절된다")
+    void expired() {
+        String pass = issuePass(admissionPassService, PERFORMANCE_ID, System.currentTimeMillis() - 1_000L);
+
+        assertFalse(admissionPassService.isAllowed(PERFORMANCE_ID, USER_ID, pass));
+    }
+
+    @Test
+    @DisplayName("입장 권한을 반납하면 이미 발급된 허가증도 거절된다")
+    void revoked() {
+        String pass = issuePass(admissionPassService, PERFORMANCE_ID, inFiveMinutes());
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        admissionPassService.revoke(PERFORMANCE_ID, USER_ID);
+
+        assertFalse(admissionPassService.isAllowed(PERFORMANCE_ID, USER_ID, pass));
+    }
+
+    @Test
+    @DisplayName("다른 공연이나 다른 사용자의 허가증으로는 입장할 수 없다")
+    void other_performance_or_user() {
+        String pass = issuePass(admissionPassService, PERFORMANCE_ID, inFiveMinutes());
+
+        assertFalse(admissionPassService.isAllowed(2L, USER_ID, pass));
+        assertFalse(admissionPassService.isAllowed(PERFORMANCE_ID, 101L, pass));
+    }
+
+    @Test
+    @DisplayName("잘리거나 변조된 허가증은 거절된다")
+    void truncated_or_tampered() {
+        String pass = issuePass(admissionPassService, PERFORMANCE_ID, inFiveMinutes());
+        String payload = pass.substring(0, pass.lastIndexOf('.'));
+
+        assertFalse(admissionPassService.isAllowed(PERFORMANCE_ID, USER_ID, pass.substring(0, pass.length() - 1)));
+        assertFalse(admissionPassService.isAllowed(PERFORMANCE_ID, USER_ID, payload));
+        assertFalse(admissionPassService.isAllowed(PERFORMANCE_ID, USER_ID, payload + "."));
+        assertFalse(admissionPassService.isAllowed(PERFORMANCE_ID, USER_ID, "1.100"));
+        assertFalse(admissionPassService.isAllowed(PERFORMANCE_ID, USER_ID, "x.100.1.sig"));
+
+        // 만료 시각만 늘린 허가증 (서명 불일치)
+        String extended = PERFORMANCE_ID + "." + USER_ID + "." + (inFiveMinutes() + 60_000L)
+                + pass.substring(pass.lastIndexOf('.'));
+        assertFalse(admissionPassService.isAllowed(PERFORMANCE_ID, USER_ID, extended));
+    }
+
+    @Test
+    @DisplayName("허가증이 없으면 Redis의 Active User로 확인한다")
+    void without_pass() {
+        when(waitingQueueService.isAllowed(PERFORMANCE_ID, USER_ID)).thenReturn(true);
+
+        assertTrue(admissionPassService.isAllowed(PERFORMANCE_ID, USER_ID, null));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("구독 토큰에서 공연/사용자를 꺼내며, 구독 토큰과 허가증은 서로 바꿔 쓸 수 없다")
+    void subscribe_token() {
+        String token = admissionPassService.issueSubscribeToken(PERFORMANCE_ID, USER_ID);
+        String pass = issuePass(admissionPassService, PERFORMANCE_ID, inFiveMinutes());
+
+        AdmissionPassService.QueueSubscriber subscriber = admissionPassService.verifySubscribeToken(token);
+        assertNotNull(subscriber);
+        assertEquals(PERFORMANCE_ID, subscriber.performanceId());
+        assertEquals(USER_ID, subscriber.userId());
+
+        assertFalse(admissionPassService.isAllowed(PERFORMANCE_ID, USER_ID, token));
+        assertNull(admissionPassService.verifySubscribeToken(pass));
+        assertNull(admissionPassService.verifySubscribeToken("q." + pass));
+        assertNull(admissionPassService.verifySubscribeToken(token.substring(0, token.length() - 2)));
+    }
+
+    @Test
+    @DisplayName("만료된 구독 토큰은 거절된다")
+    void expired_subscribe_token() {
+        AdmissionPassService shortLived = new AdmissionPassService(waitingQueueService, redisTemplate, SECRET, -1L);
+        String token = shortLived.issueSubscribeToken(PERFORMANCE_ID, USER_ID);
+
+        assertNull(admissionPassService.verifySubscribeToken(token));
+    }
+}
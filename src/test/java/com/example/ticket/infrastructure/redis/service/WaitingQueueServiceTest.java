@@ -0,0 +1,191 @@
+package com.example.ticket.infrastructure.redis.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 입장 스케줄러가 테스트 대기열을 먼저 처리하지 않도록 주기를 길게 (기동 시 1회만 실행)
+@SpringBootTest(properties = "queue.admission.tick-ms=3600000")
+class WaitingQueueServiceTest {
+
+    @Autowired
+    private WaitingQueueService waitingQueueService;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Value("${queue.shards:8}")
+    private int shards;
+
+    private static final Long PERFORMANCE_ID = 9_001L;
+    private static final String ADMISSION_KEY_PREFIX = "{ticket:admission:" + PERFORMANCE_ID + "}:";
+
+    @BeforeEach
+    void setUp() {
+        clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+        redisTemplate.opsForZSet().remove("ticket:waiting:performances", PERFORMANCE_ID.toString());
+    }
+
+    private void clear() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < shards; i++) {
+            String shardKey = shardKey(i);
+            keys.add(shardKey);
+            keys.add(shardKey + ":inflight");
+        }
+        keys.add(ADMISSION_KEY_PREFIX + "active");
+        keys.add(ADMISSION_KEY_PREFIX + "bucket");
+        keys.add(ADMISSION_KEY_PREFIX + "cursor");
+        keys.add("ticket:waiting:seq:" + PERFORMANCE_ID);
+        redisTemplate.delete(keys);
+    }
+
+    private String shardKey(int shard) {
+        return "ticket:waiting:queue:" + PERFORMANCE_ID + ":{" + PERFORMANCE_ID + ":" + shard + "}";
+    }
+
+    private String shardKeyOf(Long userId) {
+        return shardKey(Math.floorMod(Long.hashCode(userId), shards));
+    }
+
+    // 섞인 순서로 대기열 등록 (등록 순서 = 대기 번호 순서)
+    private List<Long> registerShuffled(int count) {
+        List<Long> userIds = new ArrayList<>(LongStream.rangeClosed(1, count).boxed().toList());
+        Collections.shuffle(userIds, new Random(42));
+        userIds.forEach(userId -> waitingQueueService.registerAndGetRank(PERFORMANCE_ID, userId));
+        return userIds;
+    }
+
+    @Test
+    @DisplayName("샤드가 달라도 전체 대기 번호 순서대로 입장하고, 입장 커서는 마지막 입장 번호로 전진한다")
+    void admits_in_ticket_order_across_shards() throws InterruptedException {
+        List<Long> registered = registerShuffled(40);
+        assertTrue(registered.stream().map(this::shardKeyOf).distinct().count() > 1);
+
+        List<Long> admitted = new ArrayList<>(waitingQueueService.admit(PERFORMANCE_ID, 1000, 1000, 15));
+        assertEquals(registered.subList(0, 15), admitted);
+
+        Thread.sleep(100); // 토큰 충전
+        admitted.addAll(waitingQueueService.admit(PERFORMANCE_ID, 1000, 1000, 100));
+
+        assertEquals(registered, admitted);
+        assertEquals(0, waitingQueueService.getWaitingCount(PERFORMANCE_ID));
+        assertEquals("40", redisTemplate.opsForValue().get(ADMISSION_KEY_PREFIX + "cursor"));
+        assertTrue(registered.stream().allMatch(userId -> waitingQueueService.isAllowed(PERFORMANCE_ID, userId)));
+        for (int i = 0; i < shards; i++) {
+            assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(shardKey(i) + ":inflight")));
+        }
+    }
+
+    @Test
+    @DisplayName("최대 활성 인원이 차면 빈 자리만큼만 입장한다")
+    void admits_up_to_free_slots() {
+        List<Long> registered = registerShuffled(10);
+
+        assertEquals(registered.subList(0, 4), waitingQueueService.admit(PERFORMANCE_ID, 4, 1000, 100));
+        assertTrue(waitingQueueService.admit(PERFORMANCE_ID, 4, 1000, 100).isEmpty());
+        assertEquals(6, waitingQueueService.getWaitingCount(PERFORMANCE_ID));
+    }
+
+    @Test
+    @DisplayName("중단된 입장 처리는 다음 입장 처리가 아직 입장하지 못한 대기자만 원래 번호로 되돌린다")
+    void recovers_abandoned_admission() {
+        List<Long> registered = registerShuffled(6);
+        Long admittedBeforeCrash = registered.get(0);
+        Long poppedBeforeCrash = registered.get(1);
+
+        // 샤드에서 꺼내 입장 처리 중 ZSET에 옮긴 뒤(첫 번째는 입장 기록까지) 노드가 죽은 상태를 재현
+        for (Long userId : List.of(admittedBeforeCrash, poppedBeforeCrash)) {
+            String shardKey = shardKeyOf(userId);
+            Double ticket = redisTemplate.opsForZSet().score(shardKey, userId.toString());
+            redisTemplate.opsForZSet().remove(shardKey, userId.toString());
+            redisTemplate.opsForZSet().add(shardKey + ":inflight", userId.toString(), ticket);
+        }
+        waitingQueueService.addActiveUser(PERFORMANCE_ID, admittedBeforeCrash);
+
+        assertTrue(waitingQueueService.admit(PERFORMANCE_ID, 1000, 1000, 100).isEmpty()); // 복구만 하고 건너뜀
+        assertEquals(Double.valueOf(2),
+                redisTemplate.opsForZSet().score(shardKeyOf(poppedBeforeCrash), poppedBeforeCrash.toString()));
+        assertNull(redisTemplate.opsForZSet().score(shardKeyOf(admittedBeforeCrash), admittedBeforeCrash.toString()));
+
+        assertEquals(registered.subList(1, 6), waitingQueueService.admit(PERFORMANCE_ID, 1000, 1000, 100));
+    }
+
+    @Test
+    @DisplayName("입장 처리 중이거나 이미 입장한 사용자는 다른 노드에서 조회해도 새 대기 번호를 받지 않는다")
+    void does_not_reissue_ticket_while_in_flight_or_active() {
+        List<Long> registered = registerShuffled(3);
+        Long inFlight = registered.get(1);
+        Long admitted = registered.get(2);
+
+        String shardKey = shardKeyOf(inFlight);
+        redisTemplate.opsForZSet().remove(shardKey, inFlight.toString());
+        redisTemplate.opsForZSet().add(shardKey + ":inflight", inFlight.toString(), 2);
+        redisTemplate.opsForZSet().remove(shardKeyOf(admitted), admitted.toString());
+        waitingQueueService.addActiveUser(PERFORMANCE_ID, admitted);
+        ((Map<?, ?>) ReflectionTestUtils.getField(waitingQueueService, "queues")).clear(); // 대기 번호를 모르는 노드
+
+        assertEquals(2, waitingQueueService.ticketOf(PERFORMANCE_ID, inFlight));
+        assertEquals(0, waitingQueueService.ticketOf(PERFORMANCE_ID, admitted));
+        assertNull(redisTemplate.opsForZSet().score(shardKey, inFlight.toString()));
+        assertNull(redisTemplate.opsForZSet().score(shardKeyOf(admitted), admitted.toString()));
+        assertEquals("3", redisTemplate.opsForValue().get("ticket:waiting:seq:" + PERFORMANCE_ID));
+    }
+
+    @Test
+    @DisplayName("토큰 버킷: 한 번에 버킷 용량(burst)까지만 입장하고, 토큰이 없으면 다음 충전까지 입장하지 않는다")
+    void token_bucket_caps_burst() {
+        List<Long> registered = registerShuffled(20);
+
+        assertEquals(registered.subList(0, 5), waitingQueueService.admit(PERFORMANCE_ID, 1000, 10, 5));
+        assertTrue(waitingQueueService.admit(PERFORMANCE_ID, 1000, 10, 5).isEmpty()); // 0.1초에 1개 충전
+        assertEquals(15, waitingQueueService.getWaitingCount(PERFORMANCE_ID));
+    }
+
+    @Test
+    @DisplayName("토큰 버킷: 초당 충전 속도만큼 다시 입장하고, 오래 쉬어도 버킷 용량을 넘게 쌓이지 않는다")
+    void token_bucket_refills_at_rate() throws InterruptedException {
+        registerShuffled(30);
+        assertEquals(5, waitingQueueService.admit(PERFORMANCE_ID, 1000, 10, 5).size());
+
+        Thread.sleep(300);
+        int refilled = waitingQueueService.admit(PERFORMANCE_ID, 1000, 10, 5).size();
+        assertTrue(refilled >= 3 && refilled <= 4, "0.3초 동안 충전된 토큰: " + refilled);
+
+        Thread.sleep(1500); // 15개 충전 시간이지만 용량 5에서 멈춤
+        assertEquals(5, waitingQueueService.admit(PERFORMANCE_ID, 1000, 10, 5).size());
+    }
+
+    @Test
+    @DisplayName("토큰 버킷: 빈 자리가 없어 입장하지 못한 주기에는 토큰을 쓰지 않는다")
+    void token_bucket_keeps_tokens_when_full() {
+        registerShuffled(10);
+
+        assertEquals(2, waitingQueueService.admit(PERFORMANCE_ID, 2, 1, 5).size());
+        assertTrue(waitingQueueService.admit(PERFORMANCE_ID, 2, 1, 5).isEmpty());
+        assertEquals(3, waitingQueueService.admit(PERFORMANCE_ID, 1000, 1, 5).size()); // 남은 토큰 3개 그대로
+    }
+}